@@ -0,0 +1,87 @@
+package com.example.demo.config;
+
+import com.example.demo.config.jwt.JwtProperties;
+import com.example.demo.config.jwt.SigningKeyRing;
+import com.example.demo.config.jwt.TokenAuthenticationCache;
+import com.example.demo.config.jwt.TokenProvider;
+import com.example.demo.config.jwt.TokenRevocationList;
+import com.example.demo.dao.UserDAO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TokenAuthenticationFilter 요청 1건 처리량 (Mock 서블릿 객체)
+ * - authenticationCache : 검증된 토큰 인증 정보 캐시 사용 여부
+ * - readAuthentication : 필터 이후 인증 정보 조회 여부 (false -> permitAll 경로처럼 검증 생략)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenAuthenticationFilterBenchmark {
+
+    @Param({"true", "false"})
+    public boolean authenticationCache;
+
+    @Param({"true", "false"})
+    public boolean readAuthentication;
+
+    private final FilterChain filterChain = (request, response) -> { };
+
+    private TokenAuthenticationFilter filter;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setIssuer("2e40camn@gmail.com");
+        jwtProperties.setSecretKey("study-springboot");
+        jwtProperties.setCompactCodec(true);
+        jwtProperties.getAuthenticationCache().setEnabled(authenticationCache);
+        TokenProvider tokenProvider = new TokenProvider(jwtProperties, new SigningKeyRing(jwtProperties),
+                new TokenAuthenticationCache(jwtProperties),
+                new TokenRevocationList(jwtProperties), new SimpleMeterRegistry());
+        filter = new TokenAuthenticationFilter(tokenProvider, new SimpleMeterRegistry());
+
+        UserDAO user = UserDAO.builder()
+                .email("user@email.com")
+                .password("test")
+                .build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        authorizationHeader = "Bearer " + tokenProvider.generateToken(user, Duration.ofDays(1));
+    }
+
+    @Benchmark
+    public void doFilterInternal(Blackhole blackhole) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/articles");
+        request.addHeader("Authorization", authorizationHeader);
+
+        filter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        if(readAuthentication) {
+            blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        }
+        SecurityContextHolder.clearContext();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.demo.config.jwt;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 방식별 토큰 생성/검증 처리량 (인증 정보 캐시 없음)
+ * - HS256 : 현재 기본 경로 (Hs256TokenCodec)
+ * - ES256 : 개인키 서명 / 공개키 검증 (jjwt)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SigningAlgorithmBenchmark {
+
+    @Param({"HS256", "ES256"})
+    public SignatureAlgorithm algorithm;
+
+    private TokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setIssuer("2e40camn@gmail.com");
+        jwtProperties.setSecretKey("study-springboot");
+        jwtProperties.setAlgorithm(algorithm);
+        jwtProperties.getEc().setGenerateEphemeral(true);
+        jwtProperties.setCompactCodec(true);
+        jwtProperties.getAuthenticationCache().setEnabled(false);
+        tokenProvider = new TokenProvider(jwtProperties, new SigningKeyRing(jwtProperties),
+                new TokenAuthenticationCache(jwtProperties),
+                new TokenRevocationList(jwtProperties), new SimpleMeterRegistry());
+
+        token = tokenProvider.generateToken(1L, "user@email.com", Duration.ofDays(1));
+    }
+
+    @Benchmark
+    public String sign() {
+        return tokenProvider.generateToken(1L, "user@email.com", Duration.ofHours(2));
+    }
+
+    @Benchmark
+    public VerifiedToken verify() {
+        return tokenProvider.verify(token);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.demo.config.jwt;
+
+import com.example.demo.dao.UserDAO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TokenProvider 토큰 생성/검증/인증 정보 생성 처리량
+ * - compactCodec : Hs256TokenCodec 사용 여부 (false -> jjwt)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenProviderBenchmark {
+
+    @Param({"true", "false"})
+    public boolean compactCodec;
+
+    private TokenProvider tokenProvider;
+    private UserDAO user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setIssuer("2e40camn@gmail.com");
+        jwtProperties.setSecretKey("study-springboot");
+        jwtProperties.setCompactCodec(compactCodec);
+        jwtProperties.getAuthenticationCache().setEnabled(false);
+        tokenProvider = new TokenProvider(jwtProperties, new SigningKeyRing(jwtProperties),
+                new TokenAuthenticationCache(jwtProperties),
+                new TokenRevocationList(jwtProperties), new SimpleMeterRegistry());
+
+        user = UserDAO.builder()
+                .email("user@email.com")
+                .password("test")
+                .build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        token = tokenProvider.generateToken(user, Duration.ofDays(1));
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken(user, Duration.ofHours(2));
+    }
+
+    @Benchmark
+    public boolean validToken() {
+        return tokenProvider.validToken(token);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return tokenProvider.getAuthentication(token);
+    }
+}
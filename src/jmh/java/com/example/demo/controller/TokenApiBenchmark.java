@@ -0,0 +1,105 @@
+package com.example.demo.controller;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.config.jwt.TokenProvider;
+import com.example.demo.dao.UserDAO;
+import com.example.demo.repository.RefreshTokenRepository;
+import com.example.demo.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h1>POST /api/token 처리량, 지연 시간 (실제 Tomcat + H2)</h1>
+ * <p>- threads : platform (기본) / virtual (application-virtual.yml, JDK 21 이상)</p>
+ * <p>- 동시 연결 수 : JMH 스레드 수 (@Threads, -t 로 변경)</p>
+ * <p>- SampleTime 결과의 p0.99 로 p99 지연 시간 비교</p>
+ * <p>- jdk.tracePinnedThreads : 가상 스레드가 synchronized 안에서 블로킹되면 스택 출력</p>
+ * <p>실행 : ./gradlew jmh -PjmhIncludes=TokenApiBenchmark -PjmhJavaVersion=21</p>
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djdk.tracePinnedThreads=short")
+@Threads(64)
+@State(Scope.Benchmark)
+public class TokenApiBenchmark {
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if("virtual".equals(threads) && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("Virtual threads require JDK 21+: run with -PjmhJavaVersion=21");
+        }
+
+        SpringApplication application = new SpringApplication(DemoApplication.class);
+        if("virtual".equals(threads)) {
+            application.setAdditionalProfiles("virtual");
+        }
+        // grace-window 0 -> 처리가 끝난 교환 결과를 재사용하지 않음 (매 요청 검증/조회/서명, 동시 요청만 합침)
+        // 같은 IP, 같은 사용자로 반복 호출하므로 요청 제한은 끔, 스레드 모델끼리 비교하므로 동시 처리 제한도 끔
+        context = application.run("--server.port=0", "--logging.level.root=WARN", "--jwt.refresh.grace-window=0s",
+                "--rate-limit.enabled=false", "--concurrency-limit.enabled=false");
+        int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+
+        UserDAO user = context.getBean(UserRepository.class).save(UserDAO.builder()
+                .email("benchmark@gmail.com")
+                .password("test")
+                .build());
+        String refreshToken = context.getBean(TokenProvider.class)
+                .generateToken(user.getId(), user.getEmail(), Duration.ofDays(14));
+        context.getBean(RefreshTokenRepository.class)
+                .saveRefreshToken(user.getId(), refreshToken, Instant.now().plus(Duration.ofDays(14)));
+
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/token"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"refreshToken\":\"" + refreshToken + "\"}"))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int createNewAccessToken() throws IOException, InterruptedException {
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if(response.statusCode() != 201) {
+            throw new IllegalStateException("Unexpected status: " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+}
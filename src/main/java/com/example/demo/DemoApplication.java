@@ -4,8 +4,10 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableJpaAuditing // created_at, updated_at 자동 업데이트
+@EnableScheduling // 폐기된 토큰 목록 정리 등 주기 작업
 @SpringBootApplication
 public class DemoApplication {
 
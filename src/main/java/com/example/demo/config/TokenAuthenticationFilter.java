@@ -1,23 +1,59 @@
 package com.example.demo.config;
 
 import com.example.demo.config.jwt.TokenProvider;
+import com.example.demo.config.timing.ServerTiming;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
-@RequiredArgsConstructor
+/**
+ * <h1>Bearer 토큰 인증 필터</h1>
+ * <p>토큰을 바로 검증하지 않고 지연 SecurityContext 만 설정한다.</p>
+ * <p>- 인가 판단(/api/**), 컨트롤러 인자 등에서 인증 정보를 처음 조회할 때 한 번만 검증</p>
+ * <p>- permitAll 경로처럼 인증 정보를 조회하지 않는 요청은 서명 검증 비용 없음</p>
+ * <p>지표</p>
+ * <p>- auth.filter : 토큰 인증 처리 시간 (이후 필터 체인 제외)</p>
+ * <p>- outcome : no_header(토큰 없음) / invalid(검증 실패) / valid(인증 성공) / unused(조회되지 않아 검증 생략)</p>
+ */
 public class TokenAuthenticationFilter extends OncePerRequestFilter {
     private final TokenProvider tokenProvider;
+    private final SecurityContextHolderStrategy securityContextHolderStrategy =
+            SecurityContextHolder.getContextHolderStrategy();
+    private final Timer noHeaderTimer;
+    private final Timer invalidTimer;
+    private final Timer validTimer;
+    private final Timer unusedTimer;
     private final static String HEADER_AUTHORIZATION = "Authorization";
     private final static String TOKEN_PREFIX = "Bearer ";
 
+    public TokenAuthenticationFilter(TokenProvider tokenProvider, MeterRegistry meterRegistry) {
+        this.tokenProvider = tokenProvider;
+        this.noHeaderTimer = filterTimer(meterRegistry, "no_header");
+        this.invalidTimer = filterTimer(meterRegistry, "invalid");
+        this.validTimer = filterTimer(meterRegistry, "valid");
+        this.unusedTimer = filterTimer(meterRegistry, "unused");
+    }
+
+    private static Timer filterTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("auth.filter")
+                .description("Time spent authenticating the bearer token of a request")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
     /**
      * 토큰 필터 처리
      * @param request 요청
@@ -32,19 +68,32 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
             HttpServletResponse response,
             FilterChain filterChain) throws ServletException, IOException {
 
+        long start = System.nanoTime();
+
         // 요청 헤더의 Authorization 키의 값 조회
         String authorizationHeader = request.getHeader(HEADER_AUTHORIZATION);
 
         // 가져온 값에서 접두사 제거
         String token = getAccessToken(authorizationHeader);
+        long headerNanos = System.nanoTime() - start;
+        ServerTiming.record(ServerTiming.HEADER, headerNanos);
 
-        // 가져온 토큰이 유효한지 확인하고, 유효한 때는 인증 정보 설정
-        if(tokenProvider.validToken(token)) {
-            Authentication authentication = tokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        if(token == null) {
+            noHeaderTimer.record(headerNanos, TimeUnit.NANOSECONDS);
+            filterChain.doFilter(request, response);
+            return;
         }
 
+        // 토큰이 있으면 인증 정보를 처음 조회할 때 검증하도록 지연 설정
+        DeferredTokenContext deferredContext =
+                new DeferredTokenContext(token, securityContextHolderStrategy.getDeferredContext(), headerNanos);
+        securityContextHolderStrategy.setDeferredContext(deferredContext);
+
         filterChain.doFilter(request, response);
+
+        if(!deferredContext.isResolved()) {
+            unusedTimer.record(headerNanos, TimeUnit.NANOSECONDS);
+        }
     }
 
     /**
@@ -53,10 +102,54 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
      * @param authorizationHeader 인증 헤더
      * @return 접근 토큰
      */
-    private String getAccessToken(String authorizationHeader) {
+    public static String getAccessToken(String authorizationHeader) {
         if(authorizationHeader != null && authorizationHeader.startsWith(TOKEN_PREFIX)) {
             return authorizationHeader.substring(TOKEN_PREFIX.length());
         }
         return null;
     }
+
+    /**
+     * 처음 조회할 때 토큰을 검증하는 SecurityContext (이후에는 같은 값)
+     * - 유효한 토큰 : 인증 정보를 담은 새 SecurityContext (캐시된 인증 정보가 있으면 재검증 생략)
+     * - 검증 실패 : 이전 SecurityContext 그대로 (이후 익명 인증 필터가 처리)
+     */
+    private final class DeferredTokenContext implements Supplier<SecurityContext> {
+        private final String token;
+        private final Supplier<SecurityContext> previous;
+        private final long headerNanos;
+        private SecurityContext context;
+
+        private DeferredTokenContext(String token, Supplier<SecurityContext> previous, long headerNanos) {
+            this.token = token;
+            this.previous = previous;
+            this.headerNanos = headerNanos;
+        }
+
+        @Override
+        public SecurityContext get() {
+            if(context == null) {
+                context = resolve();
+            }
+            return context;
+        }
+
+        boolean isResolved() {
+            return context != null;
+        }
+
+        private SecurityContext resolve() {
+            long start = System.nanoTime();
+            Optional<Authentication> authentication = tokenProvider.authenticate(token);
+            Timer timer = authentication.isPresent() ? validTimer : invalidTimer;
+            timer.record(headerNanos + System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+            if(authentication.isEmpty()) {
+                return previous.get();
+            }
+            SecurityContext resolved = securityContextHolderStrategy.createEmptyContext();
+            resolved.setAuthentication(authentication.get());
+            return resolved;
+        }
+    }
 }
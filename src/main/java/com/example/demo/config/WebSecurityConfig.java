@@ -7,6 +7,7 @@ import com.example.demo.config.oauth.OAuth2UserCustomService;
 import com.example.demo.repository.RefreshTokenRepository;
 import com.example.demo.service.UserDetailService;
 import com.example.demo.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.integration.IntegrationProperties;
 import org.springframework.context.annotation.Bean;
@@ -21,7 +22,7 @@ import org.springframework.security.config.annotation.web.configuration.WebSecur
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.ExceptionHandlingConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -40,6 +41,7 @@ public class WebSecurityConfig {
     private final TokenProvider tokenProvider;
     private final RefreshTokenRepository refreshTokenRepository;
     private final UserService userService;
+    private final MeterRegistry meterRegistry;
 
     /**
      * 스프링 시큐리티 모든 기능 비활성화
@@ -118,6 +120,9 @@ public class WebSecurityConfig {
                 .addFilterBefore(tokenAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class)
                 .authorizeHttpRequests((authorize) -> authorize
                         .requestMatchers(new AntPathRequestMatcher("/api/token")).permitAll()
+                        .requestMatchers(new AntPathRequestMatcher("/.well-known/jwks.json")).permitAll()
+                        .requestMatchers(new AntPathRequestMatcher("/api/admin/**")).hasRole("ADMIN")
+                        .requestMatchers(new AntPathRequestMatcher("/api/token/introspect")).hasRole("ADMIN")
                         .requestMatchers(new AntPathRequestMatcher("/api/**")).authenticated()
                         .anyRequest().permitAll()
                 )
@@ -144,23 +149,19 @@ public class WebSecurityConfig {
      * 인증 관리자 관련 설정
      * - UserDetailService 재정의
      * - 인증 방법(ex. LDAP, JDBC 기반 인증 등) 설정
+     * - 로그인 성공 시 strength 가 하한보다 낮은 패스워드 해시는 다시 해시해서 저장 (UserDetailsPasswordService)
+     * @param userDetailService 사용자 정보 서비스
+     * @param passwordEncoder 패스워드 인코더 (PasswordHasher)
      * @return AuthenticationManager
      */
-//    @Bean
-//    public AuthenticationManager authenticationManager() {
-//        DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
-//        authProvider.setUserDetailsService(userDetailService);
-//        authProvider.setPasswordEncoder(bCryptPasswordEncoder());
-//        return new ProviderManager(authProvider);
-//    }
-
-    /**
-     * 패스워드 인코더 빈 등록
-     * @return BCryptPasswordEncoder
-     */
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public AuthenticationManager authenticationManager(UserDetailService userDetailService,
+                                                       PasswordEncoder passwordEncoder) {
+        DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
+        authProvider.setUserDetailsService(userDetailService);
+        authProvider.setUserDetailsPasswordService(userDetailService);
+        authProvider.setPasswordEncoder(passwordEncoder);
+        return new ProviderManager(authProvider);
     }
 
     @Bean
@@ -169,13 +170,14 @@ public class WebSecurityConfig {
                 tokenProvider,
                 refreshTokenRepository,
                 oAuth2AuthorizationRequestBasedOnCookieRepository(),
-                userService
+                userService,
+                meterRegistry
         );
     }
 
     @Bean
     public TokenAuthenticationFilter tokenAuthenticationFilter() {
-        return new TokenAuthenticationFilter(tokenProvider);
+        return new TokenAuthenticationFilter(tokenProvider, meterRegistry);
     }
 
     @Bean
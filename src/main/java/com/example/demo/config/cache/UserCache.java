@@ -0,0 +1,172 @@
+package com.example.demo.config.cache;
+
+import com.example.demo.dto.UserSnapshotDTO;
+import com.example.demo.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <h1>사용자 조회 캐시 (read-through)</h1>
+ * <p>토큰 재발급, OAuth2 로그인 성공, 폼 로그인 때마다 반복되는 사용자 조회를 캐시한다.</p>
+ * <p>- 값 : 불변 UserSnapshotDTO (엔티티를 캐시하지 않음)</p>
+ * <p>- 키 : id, email 각각의 캐시 -> 한쪽에서 조회하면 양쪽에 저장</p>
+ * <p>- 조회 : getIfPresent -> 없으면 캐시 밖에서 DB 조회 후 put</p>
+ * <p>  (Caffeine 의 compute 안에서 조회하면 같은 해시 구간의 다른 키가 DB 왕복 동안 대기, 가상 스레드는 캐리어 고정)</p>
+ * <p>  조회 중에 evict() 가 있었으면 (세대 번호 변경) 저장한 이전 값을 다시 제거</p>
+ * <p>- 만료 : expireAfterWrite, maximumSize 초과 시 크기 기반 제거</p>
+ * <p>- 무효화 : 사용자 행을 변경하는 쪽에서 evict() 호출 (트랜잭션 안이면 커밋 후 한 번 더 제거)</p>
+ * <p>- 지표 : cache.gets(result=hit/miss), cache.evictions 등 (cache=users, index=id/email)</p>
+ */
+@Component
+public class UserCache {
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final Cache<Long, UserSnapshotDTO> byId;
+    private final Cache<String, UserSnapshotDTO> byEmail;
+    // evict(), invalidateAll() 마다 증가 (DB 조회 중에 무효화되었는지 확인)
+    private final AtomicLong generation = new AtomicLong();
+
+    public UserCache(UserRepository userRepository, UserCacheProperties properties, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.enabled = properties.isEnabled();
+        this.byId = newCache(properties);
+        this.byEmail = newCache(properties);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "users", "index", "id");
+        CaffeineCacheMetrics.monitor(meterRegistry, byEmail, "users", "index", "email");
+    }
+
+    /**
+     * 사용자 ID로 조회
+     * @param userId 사용자 ID
+     * @return 사용자 정보, 없으면 empty (없는 사용자는 캐시하지 않음)
+     */
+    public Optional<UserSnapshotDTO> findById(Long userId) {
+        if(!enabled) {
+            return userRepository.findById(userId).map(UserSnapshotDTO::from);
+        }
+
+        UserSnapshotDTO cached = byId.getIfPresent(userId);
+        if(cached != null) {
+            return Optional.of(cached);
+        }
+        // 캐시 밖에서 조회 후 저장 (compute 안에서 DB 를 기다리지 않음)
+        long loadedGeneration = generation.get();
+        Optional<UserSnapshotDTO> loaded = userRepository.findById(userId).map(UserSnapshotDTO::from);
+        loaded.ifPresent(snapshot -> put(snapshot, loadedGeneration));
+        return loaded;
+    }
+
+    /**
+     * 사용자 이메일로 조회
+     * @param email 사용자 이메일
+     * @return 사용자 정보, 없으면 empty (없는 사용자는 캐시하지 않음)
+     */
+    public Optional<UserSnapshotDTO> findByEmail(String email) {
+        if(!enabled) {
+            return userRepository.findByEmail(email).map(UserSnapshotDTO::from);
+        }
+
+        UserSnapshotDTO cached = byEmail.getIfPresent(email);
+        if(cached != null) {
+            return Optional.of(cached);
+        }
+        long loadedGeneration = generation.get();
+        Optional<UserSnapshotDTO> loaded = userRepository.findByEmail(email).map(UserSnapshotDTO::from);
+        loaded.ifPresent(snapshot -> put(snapshot, loadedGeneration));
+        return loaded;
+    }
+
+    /**
+     * 사용자 캐시 제거
+     * - 트랜잭션 안에서 호출되면 커밋 후 한 번 더 제거 (커밋 전에 다시 읽힌 이전 값 제거)
+     * @param userId 사용자 ID (모르면 null)
+     * @param email 사용자 이메일 (모르면 null)
+     */
+    public void evict(Long userId, String email) {
+        doEvict(userId, email);
+
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doEvict(userId, email);
+                }
+            });
+        }
+    }
+
+    /**
+     * 캐시 전체 비우기
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        byId.invalidateAll();
+        byEmail.invalidateAll();
+    }
+
+    /**
+     * id 캐시 통계 (hit/miss/eviction)
+     * @return 캐시 통계
+     */
+    public CacheStats idStats() {
+        return byId.stats();
+    }
+
+    /**
+     * email 캐시 통계 (hit/miss/eviction)
+     * @return 캐시 통계
+     */
+    public CacheStats emailStats() {
+        return byEmail.stats();
+    }
+
+    /**
+     * 조회한 값 저장
+     * - 저장 후 세대 번호가 바뀌었으면 (조회 중 evict) 저장한 값만 다시 제거
+     *   (evict 는 세대 번호를 먼저 올리므로, 여기서 변경을 못 봤다면 그 evict 가 이 값을 제거함)
+     * @param snapshot 조회한 사용자 정보
+     * @param loadedGeneration DB 조회 전의 세대 번호
+     */
+    private void put(UserSnapshotDTO snapshot, long loadedGeneration) {
+        byId.put(snapshot.getId(), snapshot);
+        byEmail.put(snapshot.getEmail(), snapshot);
+        if(generation.get() != loadedGeneration) {
+            byId.asMap().remove(snapshot.getId(), snapshot);
+            byEmail.asMap().remove(snapshot.getEmail(), snapshot);
+        }
+    }
+
+    private void doEvict(Long userId, String email) {
+        generation.incrementAndGet();
+        if(userId != null) {
+            UserSnapshotDTO removed = byId.asMap().remove(userId);
+            if(removed != null) {
+                byEmail.invalidate(removed.getEmail());
+            }
+        }
+        if(email != null) {
+            UserSnapshotDTO removed = byEmail.asMap().remove(email);
+            if(removed != null) {
+                byId.invalidate(removed.getId());
+            }
+        }
+    }
+
+    private static <K> Cache<K, UserSnapshotDTO> newCache(UserCacheProperties properties) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.demo.config.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 사용자 조회 캐시 설정
+ * - enabled : 캐시 사용 여부 (false -> 매번 DB 조회)
+ * - maximumSize : 최대 엔트리 수 (id, email 캐시 각각)
+ * - expireAfterWrite : 저장 후 유지 시간 (다른 인스턴스에서 변경된 값이 반영되는 최대 지연)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("user-cache")
+public class UserCacheProperties {
+    private boolean enabled = true;
+    private long maximumSize = 10_000;
+    private Duration expireAfterWrite = Duration.ofMinutes(5);
+}
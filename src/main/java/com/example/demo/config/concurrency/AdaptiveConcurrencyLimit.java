@@ -0,0 +1,114 @@
+package com.example.demo.config.concurrency;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * <h1>적응형 동시 처리 제한 (gradient)</h1>
+ * <p>처리 중인 요청 수가 limit 이상이면 새 요청을 거부하고, limit 은 관측한 응답 시간(RTT)으로 조정한다.</p>
+ * <p>windowSize 개의 표본마다 구간의 최대 RTT(작은 구간에서는 p99 에 가까움)를 목표와 비교한다.</p>
+ * <p>- gradient = clamp(targetRtt / 최대 RTT, 0.5, 1.0)</p>
+ * <p>- 새 limit = limit * gradient + (gradient == 1 이면 sqrt(limit), 아니면 0)</p>
+ * <p>- limit = limit * (1 - smoothing) + 새 limit * smoothing, [minLimit, maxLimit] 범위</p>
+ * <p>목표보다 빠르면 조금씩 늘리고, 느려지면 비율만큼 줄인다. (요청이 적어 limit 의 절반도 쓰지 않은 구간은 늘리지 않음)</p>
+ * <p>획득/반환은 CAS, 재계산은 구간을 닫는 스레드 하나만 한다. (잠금 없음)</p>
+ */
+public class AdaptiveConcurrencyLimit {
+    private final String name;
+    private final long targetRttNanos;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final int windowSize;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private volatile double limit;
+
+    // 현재 구간
+    private final AtomicInteger samples = new AtomicInteger();
+    private final LongAccumulator maxRtt = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator maxInflight = new LongAccumulator(Math::max, 0);
+
+    public AdaptiveConcurrencyLimit(String name, Duration targetRtt, int initialLimit, int minLimit, int maxLimit,
+                                    double smoothing, int windowSize) {
+        if(minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Unexpected concurrency limit for " + name);
+        }
+        this.name = name;
+        this.targetRttNanos = targetRtt.toNanos();
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.windowSize = windowSize;
+        this.limit = initialLimit;
+    }
+
+    static AdaptiveConcurrencyLimit of(ConcurrencyLimitProperties.Limit properties) {
+        return new AdaptiveConcurrencyLimit(properties.getName(), properties.getTargetRtt(),
+                properties.getInitialLimit(), properties.getMinLimit(), properties.getMaxLimit(),
+                properties.getSmoothing(), properties.getWindowSize());
+    }
+
+    /**
+     * 처리 시작
+     * @return true -> 처리 (끝나면 반드시 release), false -> 제한 초과로 거부
+     */
+    public boolean tryAcquire() {
+        while(true) {
+            int current = inflight.get();
+            if(current >= (int) limit) {
+                return false;
+            }
+            if(inflight.compareAndSet(current, current + 1)) {
+                maxInflight.accumulate(current + 1);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 처리 종료
+     * @param rttNanos 처리 시간, 음수이면 표본에서 제외 (예외로 끝난 요청)
+     */
+    public void release(long rttNanos) {
+        inflight.decrementAndGet();
+        if(rttNanos >= 0) {
+            onSample(rttNanos);
+        }
+    }
+
+    void onSample(long rttNanos) {
+        maxRtt.accumulate(rttNanos);
+        if(samples.incrementAndGet() == windowSize) {
+            long windowMaxRtt = maxRtt.getThenReset();
+            long windowMaxInflight = maxInflight.getThenReset();
+            samples.set(0);
+            update(windowMaxRtt, windowMaxInflight);
+        }
+    }
+
+    private void update(long windowMaxRtt, long windowMaxInflight) {
+        double current = limit;
+        double gradient = Math.max(0.5, Math.min(1.0, (double) targetRttNanos / Math.max(1, windowMaxRtt)));
+        if(gradient >= 1.0 && windowMaxInflight < current / 2) {
+            return;
+        }
+        double queueSize = gradient >= 1.0 ? Math.sqrt(current) : 0;
+        double newLimit = current * gradient + queueSize;
+        newLimit = current * (1 - smoothing) + newLimit * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+}
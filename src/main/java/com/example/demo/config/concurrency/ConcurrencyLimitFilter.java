@@ -0,0 +1,105 @@
+package com.example.demo.config.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <h1>적응형 동시 처리 제한 필터</h1>
+ * <p>경로별 AdaptiveConcurrencyLimit 으로 처리 중인 요청 수를 제한하고, 처리 시간을 표본으로 limit 을 조정한다.</p>
+ * <p>- 거부 : 503 + Retry-After 1초 (스레드, DB 커넥션을 기다리며 쌓이기 전에 바로 거부)</p>
+ * <p>- 로그인(/api/token, OAuth2 콜백)과 인증된 API(/api/**) 는 서로 다른 제한 -> 로그인 폭주가 기존 사용자 요청을 막지 않음</p>
+ * <p>지표 : concurrency.limit, concurrency.inflight (limiter), concurrency.limit.requests (limiter, outcome = accepted / rejected)</p>
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<Route> routes = new ArrayList<>();
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        for(ConcurrencyLimitProperties.Limit limit : properties.getLimits()) {
+            routes.add(Route.of(limit, meterRegistry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        // 디코딩, 정규화된 경로로 비교 (인코딩된 경로로 우회 방지)
+        Route route = match(UrlPathHelper.defaultInstance.getPathWithinApplication(request));
+        if(route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        AdaptiveConcurrencyLimit limit = route.limit();
+        if(!limit.tryAcquire()) {
+            route.rejected().increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            return;
+        }
+
+        route.accepted().increment();
+        long start = System.nanoTime();
+        long rttNanos = -1;
+        try {
+            filterChain.doFilter(request, response);
+            rttNanos = System.nanoTime() - start;
+        } finally {
+            limit.release(rttNanos);
+        }
+    }
+
+    private Route match(String path) {
+        for(Route route : routes) {
+            for(String pattern : route.paths()) {
+                if(pathMatcher.match(pattern, path)) {
+                    return route;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 경로 패턴과 제한
+     */
+    private record Route(List<String> paths, AdaptiveConcurrencyLimit limit, Counter accepted, Counter rejected) {
+
+        static Route of(ConcurrencyLimitProperties.Limit properties, MeterRegistry meterRegistry) {
+            AdaptiveConcurrencyLimit limit = AdaptiveConcurrencyLimit.of(properties);
+            Gauge.builder("concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                    .description("Current adaptive concurrency limit")
+                    .tag("limiter", limit.getName())
+                    .register(meterRegistry);
+            Gauge.builder("concurrency.inflight", limit, AdaptiveConcurrencyLimit::getInflight)
+                    .description("Requests currently holding a concurrency permit")
+                    .tag("limiter", limit.getName())
+                    .register(meterRegistry);
+            return new Route(List.copyOf(properties.getPaths()), limit,
+                    counter(meterRegistry, limit.getName(), "accepted"),
+                    counter(meterRegistry, limit.getName(), "rejected"));
+        }
+
+        private static Counter counter(MeterRegistry meterRegistry, String limiter, String outcome) {
+            return Counter.builder("concurrency.limit.requests")
+                    .description("Requests checked by the adaptive concurrency limiter")
+                    .tag("limiter", limiter)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.demo.config.concurrency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 적응형 동시 처리 제한 설정
+ * - enabled : 사용 여부 (false -> 필터 등록 안 함)
+ * - limits : 제한 목록 (요청 경로가 먼저 일치하는 제한 하나만 적용)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("concurrency-limit")
+public class ConcurrencyLimitProperties {
+    private boolean enabled = true;
+    private List<Limit> limits = new ArrayList<>();
+
+    /**
+     * 제한
+     * - name : 이름 (지표 태그)
+     * - paths : 요청 경로 패턴 (Ant 스타일)
+     * - targetRtt : 목표 응답 시간 (구간 최댓값이 이보다 길면 제한을 줄임)
+     * - initialLimit, minLimit, maxLimit : 동시 처리 수 시작값, 하한, 상한
+     * - smoothing : 새 제한 반영 비율 (0 ~ 1)
+     * - windowSize : 제한을 다시 계산하는 표본 수
+     */
+    @Getter
+    @Setter
+    public static class Limit {
+        private String name;
+        private List<String> paths = new ArrayList<>();
+        private Duration targetRtt = Duration.ofMillis(100);
+        private int initialLimit = 20;
+        private int minLimit = 4;
+        private int maxLimit = 200;
+        private double smoothing = 0.2;
+        private int windowSize = 50;
+    }
+}
@@ -0,0 +1,418 @@
+package com.example.demo.config.jwt;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * <h1>HS256 전용 JWT 코덱</h1>
+ * <p>TokenProvider 가 발급하는 고정된 형태의 토큰만 처리한다.</p>
+ * <h3>헤더(Header)</h3>
+ * <p>- {"typ":"JWT","alg":"HS256"} 또는 {"typ":"JWT","kid":"...","alg":"HS256"} 고정 -> Base64 인코딩 값을 미리 계산</p>
+ * <h3>내용(Payload)</h3>
+ * <p>- iss, iat, exp, sub, id, jti 를 Map/Jackson 없이 직접 작성/파싱</p>
+ * <h3>서명(Signature)</h3>
+ * <p>- 미리 만든 SecretKeySpec, Mac 은 크기가 제한된 풀에서 빌려서 재사용</p>
+ * <p>  (가상 스레드는 요청마다 새 스레드이므로 ThreadLocal 캐시가 재사용되지 않음)</p>
+ * <p>jjwt 와 바이트 단위로 같은 토큰을 만든다. 처리할 수 없는 형태의 토큰이면 decode() 가 null 을 반환하므로
+ * 호출하는 쪽에서 jjwt 로 다시 처리한다.</p>
+ */
+public class Hs256TokenCodec {
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder URL_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder URL_DECODER = Base64.getUrlDecoder();
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private final String headerSegment;
+    private final MacPool macs;
+
+    public Hs256TokenCodec(SecretKeySpec signingKey) {
+        this(signingKey, null);
+    }
+
+    /**
+     * @param signingKey 서명 키
+     * @param kid 키 ID (null -> 헤더에 kid 없음), jjwt 와 같이 typ, kid, alg 순서
+     */
+    public Hs256TokenCodec(SecretKeySpec signingKey, String kid) {
+        StringBuilder header = new StringBuilder("{\"typ\":\"JWT\"");
+        if(hasText(kid)) {
+            writeString(header.append(",\"kid\":"), kid);
+        }
+        header.append(",\"alg\":\"HS256\"}");
+        this.headerSegment = URL_ENCODER.encodeToString(header.toString().getBytes(StandardCharsets.UTF_8));
+        this.macs = new MacPool(signingKey, Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * 미리 계산된 헤더 세그먼트 (토큰의 첫 번째 부분)
+     * @return Base64 인코딩된 헤더
+     */
+    public String getHeaderSegment() {
+        return headerSegment;
+    }
+
+    /**
+     * 토큰 생성
+     * - 값이 없는 iss, sub, id, jti 는 jjwt 와 같이 생략
+     * @param issuer 발급자
+     * @param issuedAt 발급일시
+     * @param expiration 만료일시
+     * @param subject 토큰제목
+     * @param userId 유저 ID
+     * @param tokenId 토큰 ID (jti)
+     * @return JWT 토큰
+     */
+    public String encode(String issuer, Date issuedAt, Date expiration, String subject, Long userId, String tokenId) {
+        StringBuilder json = new StringBuilder(160).append('{');
+        if(hasText(issuer)) {
+            writeString(json.append("\"iss\":"), issuer).append(',');
+        }
+        json.append("\"iat\":").append(issuedAt.getTime() / 1000)
+                .append(",\"exp\":").append(expiration.getTime() / 1000);
+        if(hasText(subject)) {
+            writeString(json.append(",\"sub\":"), subject);
+        }
+        if(userId != null) {
+            json.append(",\"id\":").append(userId.longValue());
+        }
+        if(hasText(tokenId)) {
+            writeString(json.append(",\"jti\":"), tokenId);
+        }
+        json.append('}');
+
+        String signingInput = headerSegment + '.'
+                + URL_ENCODER.encodeToString(json.toString().getBytes(StandardCharsets.UTF_8));
+        Mac mac = macs.borrow();
+        byte[] signature;
+        try {
+            signature = mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        } finally {
+            macs.release(mac);
+        }
+        return signingInput + '.' + URL_ENCODER.encodeToString(signature);
+    }
+
+    /**
+     * 토큰 검증
+     * @param token JWT 토큰
+     * @param nowMillis 현재 시간
+     * @return 검증 결과, 이 코덱이 처리할 수 없는 형태의 토큰이면 null
+     */
+    public VerifiedToken decode(String token, long nowMillis) {
+        int headerEnd = token.indexOf('.');
+        int payloadEnd = token.indexOf('.', headerEnd + 1);
+        if(headerEnd != headerSegment.length() || payloadEnd < 0 || token.indexOf('.', payloadEnd + 1) >= 0
+                || !token.startsWith(headerSegment)) {
+            return null;
+        }
+
+        PayloadReader payload;
+        byte[] providedSignature;
+        try {
+            payload = PayloadReader.read(URL_DECODER.decode(token.substring(headerEnd + 1, payloadEnd)));
+            providedSignature = URL_DECODER.decode(token.substring(payloadEnd + 1));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if(payload == null) {
+            return null;
+        }
+
+        Mac mac = macs.borrow();
+        byte[] expectedSignature;
+        try {
+            mac.update(token.getBytes(StandardCharsets.US_ASCII), 0, payloadEnd);
+            expectedSignature = mac.doFinal();
+        } finally {
+            macs.release(mac);
+        }
+        if(!MessageDigest.isEqual(expectedSignature, providedSignature)) {
+            return VerifiedToken.rejected(TokenRejectReason.INVALID_SIGNATURE);
+        }
+        if(payload.exp != null && nowMillis > payload.exp * 1000) {
+            return VerifiedToken.rejected(TokenRejectReason.EXPIRED);
+        }
+        if(payload.nbf != null && nowMillis < payload.nbf * 1000) {
+            return VerifiedToken.rejected(TokenRejectReason.PREMATURE);
+        }
+
+        return VerifiedToken.of(token, payload.sub, payload.id, payload.jti,
+                payload.iat != null ? new Date(payload.iat * 1000) : null,
+                payload.exp != null ? new Date(payload.exp * 1000) : null);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    /**
+     * Jackson 기본 설정과 같은 규칙으로 JSON 문자열 작성
+     * - ", \ 와 제어문자만 이스케이프, 나머지 문자는 그대로 작성
+     */
+    private static StringBuilder writeString(StringBuilder json, String value) {
+        json.append('"');
+        for(int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\b' -> json.append("\\b");
+                case '\t' -> json.append("\\t");
+                case '\n' -> json.append("\\n");
+                case '\f' -> json.append("\\f");
+                case '\r' -> json.append("\\r");
+                default -> {
+                    if(c < 0x20) {
+                        json.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        return json.append('"');
+    }
+
+    /**
+     * 크기가 제한된 Mac 풀
+     * - 비어 있으면 기다리지 않고 새로 생성, 가득 차 있으면 반납된 Mac 은 버림
+     * - synchronized 없이 동작 (가상 스레드가 캐리어 스레드에 고정되지 않음)
+     */
+    private static final class MacPool {
+        private final SecretKeySpec signingKey;
+        private final ArrayBlockingQueue<Mac> idle;
+
+        private MacPool(SecretKeySpec signingKey, int capacity) {
+            this.signingKey = signingKey;
+            this.idle = new ArrayBlockingQueue<>(capacity);
+        }
+
+        Mac borrow() {
+            Mac mac = idle.poll();
+            return mac != null ? mac : newMac();
+        }
+
+        void release(Mac mac) {
+            mac.reset();
+            idle.offer(mac);
+        }
+
+        private Mac newMac() {
+            try {
+                Mac mac = Mac.getInstance(ALGORITHM);
+                mac.init(signingKey);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * 평평한(flat) JSON 객체 형태의 Payload 파서
+     * - 필요한 클레임만 필드로 읽고 나머지 스칼라 값은 건너뜀
+     * - 중첩 객체/배열, 소수, 타입이 다른 클레임이 있으면 null 반환 (jjwt 로 처리)
+     */
+    private static final class PayloadReader {
+        private final String json;
+        private int pos;
+
+        private String sub;
+        private String jti;
+        private Long id;
+        private Long iat;
+        private Long exp;
+        private Long nbf;
+
+        private PayloadReader(String json) {
+            this.json = json;
+        }
+
+        static PayloadReader read(byte[] bytes) {
+            PayloadReader reader = new PayloadReader(new String(bytes, StandardCharsets.UTF_8));
+            return reader.readObject() ? reader : null;
+        }
+
+        private boolean readObject() {
+            if(!consume('{')) {
+                return false;
+            }
+            if(consume('}')) {
+                return atEnd();
+            }
+            do {
+                String name = readString();
+                if(name == null || !consume(':') || !readValue(name)) {
+                    return false;
+                }
+            } while (consume(','));
+            return consume('}') && atEnd();
+        }
+
+        private boolean readValue(String name) {
+            skipWhitespace();
+            if(pos >= json.length()) {
+                return false;
+            }
+            char c = json.charAt(pos);
+            if(c == '"') {
+                String value = readString();
+                if(value == null) {
+                    return false;
+                }
+                return switch (name) {
+                    case "sub" -> { sub = value; yield true; }
+                    case "jti" -> { jti = value; yield true; }
+                    case "id", "iat", "exp", "nbf" -> false;
+                    default -> true;
+                };
+            }
+            if(c == '-' || (c >= '0' && c <= '9')) {
+                Long value = readLong();
+                if(value == null) {
+                    return false;
+                }
+                return switch (name) {
+                    case "id" -> { id = value; yield true; }
+                    case "iat" -> { iat = value; yield true; }
+                    case "exp" -> { exp = value; yield true; }
+                    case "nbf" -> { nbf = value; yield true; }
+                    case "sub", "jti" -> false;
+                    default -> true;
+                };
+            }
+            if(json.startsWith("null", pos)) {
+                pos += 4;
+                switch (name) {
+                    case "sub" -> sub = null;
+                    case "jti" -> jti = null;
+                    case "id" -> id = null;
+                    case "iat" -> iat = null;
+                    case "exp" -> exp = null;
+                    case "nbf" -> nbf = null;
+                    default -> { }
+                }
+                return true;
+            }
+            if(json.startsWith("true", pos) || json.startsWith("false", pos)) {
+                pos += json.charAt(pos) == 't' ? 4 : 5;
+                return !isKnownClaim(name);
+            }
+            return false;
+        }
+
+        private static boolean isKnownClaim(String name) {
+            return switch (name) {
+                case "sub", "jti", "id", "iat", "exp", "nbf" -> true;
+                default -> false;
+            };
+        }
+
+        private String readString() {
+            skipWhitespace();
+            if(pos >= json.length() || json.charAt(pos) != '"') {
+                return null;
+            }
+            int start = ++pos;
+            StringBuilder escaped = null;
+            while (pos < json.length()) {
+                char c = json.charAt(pos);
+                if(c == '"') {
+                    String value = escaped == null
+                            ? json.substring(start, pos)
+                            : escaped.append(json, start, pos).toString();
+                    pos++;
+                    return value;
+                }
+                if(c != '\\') {
+                    pos++;
+                    continue;
+                }
+                if(escaped == null) {
+                    escaped = new StringBuilder();
+                }
+                escaped.append(json, start, pos);
+                if(pos + 1 >= json.length()) {
+                    return null;
+                }
+                char e = json.charAt(pos + 1);
+                pos += 2;
+                switch (e) {
+                    case '"', '\\', '/' -> escaped.append(e);
+                    case 'b' -> escaped.append('\b');
+                    case 't' -> escaped.append('\t');
+                    case 'n' -> escaped.append('\n');
+                    case 'f' -> escaped.append('\f');
+                    case 'r' -> escaped.append('\r');
+                    case 'u' -> {
+                        if(pos + 4 > json.length()) {
+                            return null;
+                        }
+                        try {
+                            escaped.append((char) Integer.parseInt(json, pos, pos + 4, 16));
+                        } catch (NumberFormatException ex) {
+                            return null;
+                        }
+                        pos += 4;
+                    }
+                    default -> {
+                        return null;
+                    }
+                }
+                start = pos;
+            }
+            return null;
+        }
+
+        private Long readLong() {
+            int start = pos;
+            if(json.charAt(pos) == '-') {
+                pos++;
+            }
+            while (pos < json.length() && json.charAt(pos) >= '0' && json.charAt(pos) <= '9') {
+                pos++;
+            }
+            if(pos < json.length()) {
+                char c = json.charAt(pos);
+                if(c == '.' || c == 'e' || c == 'E') {
+                    return null;
+                }
+            }
+            try {
+                return Long.parseLong(json, start, pos, 10);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        private boolean consume(char expected) {
+            skipWhitespace();
+            if(pos < json.length() && json.charAt(pos) == expected) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private boolean atEnd() {
+            skipWhitespace();
+            return pos == json.length();
+        }
+
+        private void skipWhitespace() {
+            while (pos < json.length()) {
+                char c = json.charAt(pos);
+                if(c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                    return;
+                }
+                pos++;
+            }
+        }
+    }
+}
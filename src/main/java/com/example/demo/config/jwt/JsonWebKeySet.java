@@ -0,0 +1,93 @@
+package com.example.demo.config.jwt;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.SignatureAlgorithm;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.ECPublicKey;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <h1>JWKS (RFC 7517)</h1>
+ * <p>키링의 ES256 공개키를 키 목록이 바뀔 때 한 번만 직렬화해 둔다. (요청마다 JSON 작성 없음)</p>
+ * <p>- json : {"keys":[{"kty":"EC","crv":"P-256","kid":..,"use":"sig","alg":"ES256","x":..,"y":..}]}</p>
+ * <p>- etag : json 의 SHA-256 (키 목록이 같으면 같은 값 -> 다른 서비스는 304 로 재사용)</p>
+ * <p>HS256 비밀키는 공개하지 않는다.</p>
+ * @param json 직렬화된 JWKS
+ * @param etag 강한 ETag (따옴표 제외)
+ */
+public record JsonWebKeySet(byte[] json, String etag) {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Base64.Encoder URL_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    /**
+     * 공개키 목록 직렬화
+     * @param keys 키링의 키 (ES256 키만 포함, kid 순)
+     * @return JWKS
+     */
+    static JsonWebKeySet of(Collection<SigningKeyRing.SigningKey> keys) {
+        List<Map<String, String>> jwks = new ArrayList<>();
+        keys.stream()
+                .filter(key -> key.algorithm() == SignatureAlgorithm.ES256)
+                .sorted(Comparator.comparing(SigningKeyRing.SigningKey::kid))
+                .forEach(key -> {
+                    ECPublicKey publicKey = (ECPublicKey) key.verificationKey();
+                    Map<String, String> jwk = new LinkedHashMap<>();
+                    jwk.put("kty", "EC");
+                    jwk.put("crv", "P-256");
+                    jwk.put("kid", key.kid());
+                    jwk.put("use", "sig");
+                    jwk.put("alg", SignatureAlgorithm.ES256.getValue());
+                    jwk.put("x", coordinate(publicKey.getW().getAffineX()));
+                    jwk.put("y", coordinate(publicKey.getW().getAffineY()));
+                    jwks.add(jwk);
+                });
+
+        try {
+            byte[] json = OBJECT_MAPPER.writeValueAsBytes(Map.of("keys", jwks));
+            return new JsonWebKeySet(json, URL_ENCODER.encodeToString(sha256(json)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * JWK 지문 (RFC 7638) - 필수 멤버만 사전 순으로 직렬화한 JSON 의 SHA-256
+     * @param publicKey P-256 공개키
+     * @return URL-safe Base64 (43자)
+     */
+    static String thumbprint(ECPublicKey publicKey) {
+        String json = "{\"crv\":\"P-256\",\"kty\":\"EC\",\"x\":\"" + coordinate(publicKey.getW().getAffineX())
+                + "\",\"y\":\"" + coordinate(publicKey.getW().getAffineY()) + "\"}";
+        return URL_ENCODER.encodeToString(sha256(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * 좌표를 32바이트 big-endian 으로 (BigInteger 의 부호 바이트 제거, 앞자리 0 채움)
+     */
+    private static String coordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] fixed = new byte[32];
+        int length = Math.min(bytes.length, 32);
+        System.arraycopy(bytes, bytes.length - length, fixed, 32 - length, length);
+        return URL_ENCODER.encodeToString(fixed);
+    }
+
+    private static byte[] sha256(byte[] value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,15 +1,106 @@
 package com.example.demo.config.jwt;
 
+import io.jsonwebtoken.SignatureAlgorithm;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 @Getter
 @Setter
 @Component
 @ConfigurationProperties("jwt") // 자바 클래스에 프로퍼티값을 가져와서 사용하는 애너테이션
 public class JwtProperties {
     private String issuer;
-    private String secretKey;
+    private SignatureAlgorithm algorithm = SignatureAlgorithm.HS256; // 서명 방식 (HS256, ES256)
+    private String secretKey; // kid 없는 토큰 검증 (keys 가 비어 있으면 서명에도 사용)
+    private List<Key> keys = new ArrayList<>(); // 서명 키링 (kid -> 비밀키)
+    private String activeKid; // 서명에 사용할 kid (없으면 keys 의 마지막 키)
+    private Duration keyOverlap = Duration.ofDays(14); // 교체된 키의 검증 유지 기간 (최대 토큰 유효 기간 이상)
+    private Duration jwksMaxAge = Duration.ofMinutes(5); // /.well-known/jwks.json 캐시 기간 (key-overlap 보다 짧게)
+    private boolean compactCodec = false; // true -> HS256 전용 코덱(Hs256TokenCodec) 사용
+    private Set<String> admins = new HashSet<>(); // ROLE_ADMIN 을 부여할 사용자 (토큰 subject = email)
+    private final Ec ec = new Ec();
+    private final AuthenticationCache authenticationCache = new AuthenticationCache();
+    private final Revocation revocation = new Revocation();
+    private final Refresh refresh = new Refresh();
+
+    /**
+     * 서명 키
+     * - kid : 토큰 헤더의 키 ID
+     * - secret : 비밀키 (Base64)
+     */
+    @Getter
+    @Setter
+    public static class Key {
+        private String kid;
+        private String secret;
+    }
+
+    /**
+     * ES256 서명 키 (algorithm = ES256)
+     * - kid : 토큰 헤더의 키 ID (없으면 JWK 지문)
+     * - publicKey : 공개키 (X.509, PEM 또는 Base64)
+     * - privateKey : 개인키 (PKCS#8, PEM 또는 Base64), 없으면 시작 실패
+     * - generateEphemeral : 개인키가 없을 때 시작할 때마다 새 키 쌍 생성 (단일 인스턴스, 테스트용)
+     *   인스턴스마다 키가 달라 다른 인스턴스가 발급한 토큰은 검증에 실패하고, 재시작하면 기존 토큰이 모두 무효
+     */
+    @Getter
+    @Setter
+    public static class Ec {
+        private String kid;
+        private String publicKey;
+        private String privateKey;
+        private boolean generateEphemeral = false;
+    }
+
+    /**
+     * 검증된 토큰의 인증 정보 캐시 설정
+     * - enabled : 캐시 사용 여부
+     * - maximumSize : 최대 엔트리 수 (초과 시 제거)
+     * - maximumTtl : 엔트리 최대 유지 시간 (토큰 만료 시간을 넘지 않음)
+     */
+    @Getter
+    @Setter
+    public static class AuthenticationCache {
+        private boolean enabled = true;
+        private long maximumSize = 10_000;
+        private Duration maximumTtl = Duration.ofMinutes(10);
+    }
+
+    /**
+     * 액세스 토큰 폐기 목록 설정
+     * - expectedInsertions : 만료 전까지 동시에 유지될 것으로 예상되는 폐기 토큰 수 (블룸 필터 크기)
+     * - falsePositiveRate : 블룸 필터 오탐률 (오탐이면 정확한 집합까지 조회)
+     * - purgeInterval : 만료된 엔트리 제거 주기
+     */
+    @Getter
+    @Setter
+    public static class Revocation {
+        private int expectedInsertions = 100_000;
+        private double falsePositiveRate = 0.01;
+        private Duration purgeInterval = Duration.ofMinutes(1);
+    }
+
+    /**
+     * 리프레시 토큰 교환 설정
+     * - rotate : 교환할 때마다 리프레시 토큰도 새로 발급
+     * - graceWindow : 교환이 끝난 뒤에도 같은 리프레시 토큰 요청에 같은 결과를 주는 시간 (0 -> 처리 중인 요청만 합침)
+     * - maximumSize : 처리 중 + graceWindow 안의 교환 결과 최대 수
+     * - waitTimeout : 처리 중인 교환을 기다리는 최대 시간 (넘으면 실패)
+     */
+    @Getter
+    @Setter
+    public static class Refresh {
+        private boolean rotate = false;
+        private Duration graceWindow = Duration.ofSeconds(10);
+        private long maximumSize = 10_000;
+        private Duration waitTimeout = Duration.ofSeconds(5);
+    }
 }
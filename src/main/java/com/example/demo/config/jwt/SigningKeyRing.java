@@ -0,0 +1,340 @@
+package com.example.demo.config.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.impl.TextCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <h1>서명 키링 (kid)</h1>
+ * <p>서명 키를 미리 만들어 두고 토큰 헤더로 O(1) 조회한다.</p>
+ * <p>- 서명 : 활성 키 (헤더에 kid 포함)</p>
+ * <p>- 검증 : 토큰의 헤더 세그먼트(Base64) -> 키 (HashMap 조회, JSON 파싱 없음)</p>
+ * <p>  jjwt 로 처리하는 토큰은 SigningKeyResolver 로 kid -> 키 조회</p>
+ * <p>- kid 가 없는 토큰 : jwt.secret_key (키링이 비어 있으면 서명에도 사용)</p>
+ * <p>  활성 키가 kid 있는 키로 바뀌면 다른 이전 키와 같이 keyOverlap 동안만 검증 -> 이후 kid 없는 토큰은 거부</p>
+ * <h3>서명 방식 (jwt.algorithm)</h3>
+ * <p>- HS256 : 비밀키 공유 (기본)</p>
+ * <p>- ES256 : P-256 키 쌍으로 서명, 공개키는 JWKS(/.well-known/jwks.json)로 공개 -> 다른 서비스가 직접 검증</p>
+ * <p>  ES256 으로 바꿔도 HS256 키(secret_key, keys)는 이전에 발급된 토큰 검증에 계속 사용</p>
+ * <h3>교체 (rotate)</h3>
+ * <p>새 키를 활성 키로 바꾸고, 이전 활성 키는 keyOverlap 동안 검증에만 사용한 뒤 제거한다.</p>
+ * <p>(keyOverlap 은 가장 긴 토큰 유효 기간 이상 -> 교체 전에 발급된 토큰이 만료될 때까지 유효)</p>
+ */
+@Slf4j
+@Component
+public class SigningKeyRing extends SigningKeyResolverAdapter {
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    private final SignatureAlgorithm algorithm;
+    private final Duration keyOverlap;
+    // 교체/제거끼리만 직렬화 (조회는 volatile 읽기 한 번)
+    private final ReentrantLock updateLock = new ReentrantLock();
+    private volatile KeySet keySet;
+
+    public SigningKeyRing(JwtProperties jwtProperties) {
+        this.algorithm = jwtProperties.getAlgorithm();
+        this.keyOverlap = jwtProperties.getKeyOverlap();
+        if(algorithm != SignatureAlgorithm.HS256 && algorithm != SignatureAlgorithm.ES256) {
+            throw new IllegalArgumentException("Unexpected algorithm: " + algorithm);
+        }
+
+        SigningKey legacy = SigningKey.hmac(null, jwtProperties.getSecretKey(), null);
+        Map<String, SigningKey> byKid = new HashMap<>();
+        for(JwtProperties.Key key : jwtProperties.getKeys()) {
+            byKid.put(key.getKid(), SigningKey.hmac(key.getKid(), key.getSecret(), null));
+        }
+
+        SigningKey active = legacy;
+        String activeKid = jwtProperties.getActiveKid();
+        if(algorithm == SignatureAlgorithm.ES256) {
+            active = ecKey(jwtProperties.getEc());
+            byKid.put(active.kid(), active);
+        } else if(activeKid != null && !activeKid.isBlank()) {
+            active = byKid.get(activeKid);
+            if(active == null) {
+                throw new IllegalArgumentException("Unexpected active kid: " + activeKid);
+            }
+        } else if(!jwtProperties.getKeys().isEmpty()) {
+            List<JwtProperties.Key> keys = jwtProperties.getKeys();
+            active = byKid.get(keys.get(keys.size() - 1).getKid());
+        }
+        if(active != legacy) {
+            // 시작 전에 kid 없이 발급된 토큰은 keyOverlap 안에 만료됨
+            legacy = legacy.retireAt(Instant.now().plus(keyOverlap));
+        }
+        this.keySet = new KeySet(active, legacy, byKid);
+    }
+
+    /**
+     * ES256 서명 키 (jwt.ec)
+     * - 개인키가 없으면 시작 실패, generateEphemeral 이면 시작할 때 생성 (재시작/다중 인스턴스에서 유지되지 않음)
+     * - kid 가 없으면 공개키의 JWK 지문(RFC 7638)
+     * @throws IllegalArgumentException 개인키가 없고 generateEphemeral 도 아님
+     */
+    private static SigningKey ecKey(JwtProperties.Ec ec) {
+        KeyPair keyPair;
+        if(ec.getPrivateKey() == null || ec.getPrivateKey().isBlank()) {
+            if(!ec.isGenerateEphemeral()) {
+                throw new IllegalArgumentException("Unexpected jwt.ec.private-key: empty "
+                        + "(set jwt.ec.generate-ephemeral=true to generate a per-instance key)");
+            }
+            log.warn("jwt.ec.private-key is not set, generating an ephemeral ES256 key pair");
+            keyPair = generateEcKeyPair();
+        } else {
+            keyPair = readEcKeyPair(ec.getPublicKey(), ec.getPrivateKey());
+        }
+        String kid = ec.getKid() != null && !ec.getKid().isBlank()
+                ? ec.getKid()
+                : JsonWebKeySet.thumbprint((ECPublicKey) keyPair.getPublic());
+        return SigningKey.ec(kid, keyPair, null);
+    }
+
+    private static KeyPair generateEcKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"), SECURE_RANDOM);
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("EC P-256 is not available", e);
+        }
+    }
+
+    /**
+     * PEM 또는 Base64 DER (공개키 X.509, 개인키 PKCS#8)
+     */
+    private static KeyPair readEcKeyPair(String publicKey, String privateKey) {
+        if(publicKey == null || publicKey.isBlank()) {
+            throw new IllegalArgumentException("Unexpected jwt.ec.public-key: empty");
+        }
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance("EC");
+            PublicKey pub = keyFactory.generatePublic(new X509EncodedKeySpec(decodePem(publicKey)));
+            PrivateKey priv = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(decodePem(privateKey)));
+            if(((ECPublicKey) pub).getParams().getCurve().getField().getFieldSize() != 256) {
+                throw new IllegalArgumentException("Unexpected EC curve: ES256 requires P-256");
+            }
+            return new KeyPair(pub, priv);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("Unexpected EC key", e);
+        }
+    }
+
+    private static byte[] decodePem(String pem) {
+        return Base64.getMimeDecoder().decode(pem.replaceAll("-----[A-Z ]+-----", ""));
+    }
+
+    /**
+     * 서명에 사용할 활성 키
+     * @return 활성 키
+     */
+    public SigningKey activeKey() {
+        return keySet.active();
+    }
+
+    /**
+     * 공개키 목록 (ES256 키만, 교체 시 미리 직렬화)
+     * @return JWKS
+     */
+    public JsonWebKeySet jwks() {
+        return keySet.jwks();
+    }
+
+    /**
+     * 토큰 헤더 세그먼트로 검증 키 조회
+     * @param token JWT 토큰
+     * @return 검증 키, 키링에 없는 헤더이면 null (jjwt 로 처리)
+     */
+    public SigningKey findByHeader(String token) {
+        int headerEnd = token.indexOf('.');
+        if(headerEnd < 0) {
+            return null;
+        }
+        SigningKey key = keySet.byHeader().get(token.substring(0, headerEnd));
+        return key != null && key.isUsable(Instant.now()) ? key : null;
+    }
+
+    /**
+     * jjwt 검증 키 조회 (kid)
+     * - kid 없음 -> jwt.secret_key (검증 기간이 지나 제거되었으면 거부)
+     * - 헤더의 alg 가 키의 서명 방식과 다르면 거부 (공개키를 HS256 비밀키로 쓰는 위조 방지)
+     * @throws SignatureException 키링에 없거나 제거된 kid, 서명 방식 불일치
+     */
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        String kid = header.getKeyId();
+        SigningKey key = kid == null ? keySet.legacy() : keySet.byKid().get(kid);
+        if(key == null || !key.isUsable(Instant.now())) {
+            throw new SignatureException("Unknown kid: " + kid);
+        }
+        if(!key.algorithm().getValue().equals(header.getAlgorithm())) {
+            throw new SignatureException("Unexpected alg for kid " + kid + ": " + header.getAlgorithm());
+        }
+        return key.verificationKey();
+    }
+
+    /**
+     * 키 교체 (재시작 없이, jwt.algorithm 방식으로 새 키 생성)
+     * - HS256 : 256비트 난수 비밀키
+     * - ES256 : P-256 키 쌍 (공개키는 JWKS 에 바로 반영)
+     * @param kid 새 키 ID
+     */
+    public void rotate(String kid) {
+        if(algorithm == SignatureAlgorithm.ES256) {
+            install(SigningKey.ec(kid, generateEcKeyPair(), null));
+            return;
+        }
+        byte[] secret = new byte[32];
+        SECURE_RANDOM.nextBytes(secret);
+        install(SigningKey.hmac(kid, Base64.getEncoder().encodeToString(secret), null));
+    }
+
+    /**
+     * HS256 키 교체 (재시작 없이)
+     * @param kid 새 키 ID
+     * @param secret 새 비밀키 (Base64)
+     * @throws IllegalArgumentException jwt.algorithm 이 HS256 이 아님
+     */
+    public void rotate(String kid, String secret) {
+        if(algorithm != SignatureAlgorithm.HS256) {
+            throw new IllegalArgumentException("Unexpected secret for algorithm " + algorithm);
+        }
+        install(SigningKey.hmac(kid, secret, null));
+    }
+
+    /**
+     * 새 키를 활성 키로, 이전 활성 키는 keyOverlap 동안 검증에만 사용
+     * - 키링은 메모리에만 있으므로 재시작 후에도 유지하려면 jwt.keys (ES256 은 jwt.ec) 설정에 추가해야 함
+     */
+    private void install(SigningKey active) {
+        String kid = active.kid();
+        SigningKey previous;
+        updateLock.lock();
+        try {
+            KeySet current = keySet;
+            if(kid == null || kid.isBlank() || current.byKid().containsKey(kid)) {
+                throw new IllegalArgumentException("Unexpected kid: " + kid);
+            }
+
+            Map<String, SigningKey> byKid = new HashMap<>(current.byKid());
+            SigningKey legacy = current.legacy();
+            previous = current.active();
+            Instant retiresAt = Instant.now().plus(keyOverlap);
+            if(previous.kid() != null) {
+                byKid.put(previous.kid(), previous.retireAt(retiresAt));
+            } else {
+                legacy = previous.retireAt(retiresAt);
+            }
+            byKid.put(kid, active);
+
+            keySet = new KeySet(active, legacy, byKid);
+        } finally {
+            updateLock.unlock();
+        }
+        log.info("Signing key rotated to kid={} (previous kid={} verifies for {})", kid, previous.kid(), keyOverlap);
+    }
+
+    /**
+     * 검증 기간이 지난 키 제거 (kid 없는 jwt.secret_key 포함)
+     */
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
+    public void removeRetiredKeys() {
+        updateLock.lock();
+        try {
+            KeySet current = keySet;
+            Instant now = Instant.now();
+            Map<String, SigningKey> byKid = new HashMap<>(current.byKid());
+            SigningKey legacy = current.legacy() != null && current.legacy().isUsable(now) ? current.legacy() : null;
+            if(byKid.values().removeIf(key -> !key.isUsable(now)) || legacy != current.legacy()) {
+                keySet = new KeySet(current.active(), legacy, byKid);
+            }
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * 서명 키
+     * @param kid 키 ID (kid 없는 키이면 null)
+     * @param algorithm 서명 방식 (HS256, ES256)
+     * @param signingKey 서명 키 (HS256 비밀키, ES256 개인키)
+     * @param verificationKey 검증 키 (HS256 비밀키, ES256 공개키)
+     * @param codec 이 키의 헤더가 미리 계산된 Hs256TokenCodec (ES256 이면 null)
+     * @param retiresAt 검증 종료 일시 (null -> 제한 없음)
+     */
+    public record SigningKey(String kid, SignatureAlgorithm algorithm, Key signingKey, Key verificationKey,
+                             Hs256TokenCodec codec, Instant retiresAt) {
+
+        static SigningKey hmac(String kid, String secret, Instant retiresAt) {
+            // jjwt 와 같은 방식(Base64 디코딩)으로 한 번만 만들어 재사용
+            SecretKeySpec secretKey = new SecretKeySpec(TextCodec.BASE64.decode(Objects.requireNonNull(secret)),
+                    SignatureAlgorithm.HS256.getJcaName());
+            return new SigningKey(kid, SignatureAlgorithm.HS256, secretKey, secretKey,
+                    new Hs256TokenCodec(secretKey, kid), retiresAt);
+        }
+
+        static SigningKey ec(String kid, KeyPair keyPair, Instant retiresAt) {
+            return new SigningKey(kid, SignatureAlgorithm.ES256, keyPair.getPrivate(), keyPair.getPublic(), null,
+                    retiresAt);
+        }
+
+        SigningKey retireAt(Instant retiresAt) {
+            return new SigningKey(kid, algorithm, signingKey, verificationKey, codec, retiresAt);
+        }
+
+        boolean isUsable(Instant now) {
+            return retiresAt == null || now.isBefore(retiresAt);
+        }
+    }
+
+    /**
+     * 불변 키 목록 (교체 시 통째로 바꿈 -> 조회는 잠금 없음)
+     * - legacy : kid 없는 키 (검증 기간이 지나 제거되면 null)
+     */
+    private record KeySet(SigningKey active, SigningKey legacy, Map<String, SigningKey> byKid,
+                          Map<String, SigningKey> byHeader, JsonWebKeySet jwks) {
+
+        KeySet(SigningKey active, SigningKey legacy, Map<String, SigningKey> byKid) {
+            this(active, legacy, Map.copyOf(byKid), headerIndex(legacy, byKid), JsonWebKeySet.of(byKid.values()));
+        }
+
+        private static Map<String, SigningKey> headerIndex(SigningKey legacy, Map<String, SigningKey> byKid) {
+            Map<String, SigningKey> byHeader = new HashMap<>();
+            if(legacy != null) {
+                byHeader.put(legacy.codec().getHeaderSegment(), legacy);
+            }
+            byKid.values().stream()
+                    .filter(key -> key.codec() != null)
+                    .forEach(key -> byHeader.put(key.codec().getHeaderSegment(), key));
+            return Map.copyOf(byHeader);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.demo.config.jwt;
+
+import com.example.demo.util.HashUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h1>검증된 토큰 인증 정보 캐시</h1>
+ * <p>같은 토큰이 반복 요청될 때 서명 검증과 Authentication 생성을 생략한다.</p>
+ * <p>- 키 : 토큰의 SHA-256 다이제스트 (원문 토큰은 보관하지 않음)</p>
+ * <p>- 만료 : min(토큰 exp, maximumTtl)</p>
+ * <p>- 제거 : maximumSize 초과 시 크기 기반 제거</p>
+ * <p>- 지표 : MeterBinder 빈으로 등록 (cache=token.authentication)</p>
+ */
+@Component
+public class TokenAuthenticationCache implements MeterBinder {
+    private final boolean enabled;
+    private final long maximumTtlNanos;
+    private final Cache<String, CachedAuthentication> cache;
+
+    public TokenAuthenticationCache(JwtProperties jwtProperties) {
+        JwtProperties.AuthenticationCache properties = jwtProperties.getAuthenticationCache();
+        this.enabled = properties.isEnabled();
+        this.maximumTtlNanos = properties.getMaximumTtl().toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시된 인증 정보 조회
+     * @param token JWT 토큰
+     * @return 인증 정보 (폐기 여부 확인용 jti 포함), 없거나 만료되었으면 null
+     */
+    public CachedAuthentication get(String token) {
+        if(!enabled) {
+            return null;
+        }
+        return cache.getIfPresent(digest(token));
+    }
+
+    /**
+     * 인증 정보 저장
+     * @param token JWT 토큰
+     * @param authentication 인증 정보
+     * @param tokenId 토큰 ID (jti)
+     * @param expiration 토큰 만료 일시
+     */
+    public void put(String token, Authentication authentication, String tokenId, Date expiration) {
+        if(!enabled || expiration == null) {
+            return;
+        }
+        cache.put(digest(token), new CachedAuthentication(authentication, tokenId, expiration.getTime()));
+    }
+
+    /**
+     * 캐시 전체 비우기
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 캐시 통계 (hit/miss/eviction)
+     * @return 캐시 통계
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "token.authentication");
+    }
+
+    private String digest(String token) {
+        return Base64.getEncoder().encodeToString(HashUtil.sha256(token));
+    }
+
+    /**
+     * 캐시 엔트리
+     * @param authentication 인증 정보
+     * @param tokenId 토큰 ID (jti), 캐시 hit 때도 폐기 여부를 확인하기 위해 보관
+     * @param expiresAtMillis 토큰 만료 일시
+     */
+    public record CachedAuthentication(Authentication authentication, String tokenId, long expiresAtMillis) {
+    }
+
+    /**
+     * 엔트리별 만료 시간 : 토큰 만료 일시와 최대 유지 시간 중 짧은 쪽
+     */
+    private class TokenExpiry implements Expiry<String, CachedAuthentication> {
+        @Override
+        public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+            long untilExpiry = TimeUnit.MILLISECONDS.toNanos(value.expiresAtMillis() - System.currentTimeMillis());
+            return Math.max(0, Math.min(untilExpiry, maximumTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
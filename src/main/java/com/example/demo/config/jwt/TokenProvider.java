@@ -1,11 +1,19 @@
 package com.example.demo.config.jwt;
 
+import com.example.demo.config.timing.ServerTiming;
 import com.example.demo.dao.UserDAO;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import lombok.RequiredArgsConstructor;
+import io.jsonwebtoken.PrematureJwtException;
+import io.jsonwebtoken.SignatureException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -13,14 +21,65 @@ import org.springframework.stereotype.Service;
 import org.springframework.security.core.userdetails.User;
 
 import java.time.Duration;
-import java.util.Collections;
+import java.util.Base64;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
-@RequiredArgsConstructor
+/**
+ * <h1>JWT 토큰 발급/검증</h1>
+ * <p>지표</p>
+ * <p>- auth.token.generate : 토큰 생성 시간</p>
+ * <p>- auth.token.verify : 토큰 검증 시간 (outcome = valid 또는 실패 사유)</p>
+ * <p>JFR 이벤트 : TokenSignEvent, TokenVerifyEvent (임계값 이상으로 느린 경우만 기록)</p>
+ * <p>모든 토큰에 jti(토큰 ID)를 넣고, 인증 시 TokenRevocationList 로 폐기 여부를 확인한다.</p>
+ */
 @Service
 public class TokenProvider {
+    private static final Set<SimpleGrantedAuthority> USER_AUTHORITIES =
+            Set.of(new SimpleGrantedAuthority("ROLE_USER"));
+    private static final Set<SimpleGrantedAuthority> ADMIN_AUTHORITIES =
+            Set.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"));
+
     private final JwtProperties jwtProperties;
+    private final TokenAuthenticationCache authenticationCache;
+    private final TokenRevocationList revocationList;
+    private final SigningKeyRing keyRing;
+    private final boolean compactCodec;
+    private final Set<String> admins;
+    private final Timer generateTimer;
+    private final Timer validTimer;
+    private final Map<TokenRejectReason, Timer> rejectedTimers = new EnumMap<>(TokenRejectReason.class);
+
+    public TokenProvider(JwtProperties jwtProperties, SigningKeyRing keyRing, TokenAuthenticationCache authenticationCache,
+                         TokenRevocationList revocationList, MeterRegistry meterRegistry) {
+        this.jwtProperties = jwtProperties;
+        this.keyRing = keyRing;
+        this.authenticationCache = authenticationCache;
+        this.revocationList = revocationList;
+        this.compactCodec = jwtProperties.isCompactCodec();
+        this.admins = Set.copyOf(jwtProperties.getAdmins());
+
+        this.generateTimer = Timer.builder("auth.token.generate")
+                .description("Time spent signing a JWT")
+                .register(meterRegistry);
+        this.validTimer = verifyTimer(meterRegistry, "valid");
+        for(TokenRejectReason reason : TokenRejectReason.values()) {
+            rejectedTimers.put(reason, verifyTimer(meterRegistry, reason.name().toLowerCase(Locale.ROOT)));
+        }
+    }
+
+    private static Timer verifyTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("auth.token.verify")
+                .description("Time spent verifying a JWT")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
 
     /**
      * JWT 토큰 생성
@@ -29,40 +88,98 @@ public class TokenProvider {
      * @return JWT 토큰
      */
     public String generateToken(UserDAO user, Duration expiredAt) {
+        return generateToken(user.getId(), user.getUsername(), expiredAt);
+    }
+
+    /**
+     * JWT 토큰 생성
+     * - 사용자 엔티티 없이 id, email 만으로 생성
+     * @param userId 사용자 ID
+     * @param email 사용자 이메일 (토큰제목)
+     * @param expiredAt 만료기간
+     * @return JWT 토큰
+     */
+    public String generateToken(Long userId, String email, Duration expiredAt) {
+        TokenSignEvent event = new TokenSignEvent();
+        event.begin();
+        long start = System.nanoTime();
         Date now = new Date();
-        return makeToken(new Date(now.getTime() + expiredAt.toMillis()), user);
+        String token = makeToken(new Date(now.getTime() + expiredAt.toMillis()), email, userId);
+        long elapsed = System.nanoTime() - start;
+        generateTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        ServerTiming.record(ServerTiming.SIGN, elapsed);
+
+        event.end();
+        if(event.shouldCommit()) {
+            event.tokenLength = token.length();
+            event.compactCodec = compactCodec;
+            event.commit();
+        }
+        return token;
     }
 
     /**
      * <h1>JWT 토큰 생성</h1>
      * <h3>헤더(Header)</h3>
      * <p>- typ(타입) : JWT</p>
+     * <p>- kid(키 ID) : 키링의 활성 키 (kid 없는 키이면 생략)</p>
      * <h3>내용(Payload)</h3>
      * <p>- iss(발급자) : 2e40camn@gmail.com</p>
      * <p>- iat(발급일시) : 현재 시간</p>
      * <p>- exp(만료일시) : expiry</p>
      * <p>- sub(토큰제목) : username</p>
      * <p>- claim(클레임) : 유저 ID</p>
+     * <p>- jti(토큰 ID) : 128비트 난수 (폐기 목록 키)</p>
      * <h3>서명(Signature)</h3>
-     * <p>- 비밀키 HS256방식 암호화</p>
+     * <p>- 비밀키 HS256방식 암호화 (jwt.algorithm = ES256 이면 개인키 ES256 서명)</p>
+     * <p>jwt.compact-codec 설정 시 활성 키의 Hs256TokenCodec 으로 생성 (jjwt 와 같은 토큰, HS256 만)</p>
      * @param expiry 만료 시간
-     * @param user 유저 정보
+     * @param subject 토큰제목 (email)
+     * @param userId 유저 ID
      * @return JWT 토큰
      */
-    private String makeToken(Date expiry, UserDAO user) {
+    private String makeToken(Date expiry, String subject, Long userId) {
         Date now = new Date();
+        String tokenId = newTokenId();
+        SigningKeyRing.SigningKey signingKey = keyRing.activeKey();
+
+        if(compactCodec && signingKey.codec() != null) {
+            return signingKey.codec().encode(jwtProperties.getIssuer(), now, expiry, subject, userId, tokenId);
+        }
 
-        return Jwts.builder()
-                .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
+        JwtBuilder builder = Jwts.builder()
+                .setHeaderParam(Header.TYPE, Header.JWT_TYPE);
+        if(signingKey.kid() != null) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, signingKey.kid());
+        }
+        return builder
                 .setIssuer(jwtProperties.getIssuer())
                 .setIssuedAt(now)
                 .setExpiration(expiry)
-                .setSubject(user.getUsername())
-                .claim("id", user.getId())
-                .signWith(SignatureAlgorithm.HS256, jwtProperties.getSecretKey())
+                .setSubject(subject)
+                .claim("id", userId)
+                .setId(tokenId)
+                .signWith(signingKey.algorithm(), signingKey.signingKey())
                 .compact();
     }
 
+    /**
+     * 토큰 ID (jti) 생성
+     * - 서명으로 보호되는 값이므로 예측 불가능할 필요는 없고 충돌만 없으면 됨 -> ThreadLocalRandom 128비트
+     * @return URL-safe Base64 (22자)
+     */
+    private static String newTokenId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long high = random.nextLong();
+        long low = random.nextLong();
+        byte[] bytes = new byte[16];
+        for(int i = 0; i < 8; i++) {
+            bytes[i] = (byte) (high >>> (56 - i * 8));
+            bytes[i + 8] = (byte) (low >>> (56 - i * 8));
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
     /**
      * JWT 토큰 유효성 검사
      * 토큰 복호화 진행 후 문제 없는지 판단
@@ -70,14 +187,136 @@ public class TokenProvider {
      * @return true -> JWT 토큰 유효함
      */
     public boolean validToken(String token) {
+        return verify(token).isValid();
+    }
+
+    /**
+     * <h1>JWT 토큰 검증</h1>
+     * <p>토큰을 한 번만 디코딩/서명 검증하고 결과를 반환한다.</p>
+     * <p>검증에 실패하면 예외 대신 실패 사유가 담긴 결과를 반환한다.</p>
+     * @param token JWT 토큰
+     * @return 검증 결과
+     */
+    public VerifiedToken verify(String token) {
+        TokenVerifyEvent event = new TokenVerifyEvent();
+        event.begin();
+        long start = System.nanoTime();
+        VerifiedToken verifiedToken = doVerify(token);
+        Timer timer = verifiedToken.isValid() ? validTimer : rejectedTimers.get(verifiedToken.getRejectReason());
+        long elapsed = System.nanoTime() - start;
+        timer.record(elapsed, TimeUnit.NANOSECONDS);
+        ServerTiming.record(ServerTiming.VERIFY, elapsed);
+
+        event.end();
+        if(event.shouldCommit()) {
+            event.tokenLength = token != null ? token.length() : 0;
+            event.outcome = verifiedToken.isValid() ? "valid" : verifiedToken.getRejectReason().name();
+            event.commit();
+        }
+        return verifiedToken;
+    }
+
+    private VerifiedToken doVerify(String token) {
+        if(token == null || token.isBlank()) {
+            return VerifiedToken.rejected(TokenRejectReason.MISSING);
+        }
+
+        // 헤더 세그먼트로 키 선택 (O(1)) -> 코덱으로 처리할 수 없으면 jjwt 가 kid 로 키 선택
+        if(compactCodec) {
+            SigningKeyRing.SigningKey signingKey = keyRing.findByHeader(token);
+            VerifiedToken verifiedToken = signingKey != null
+                    ? signingKey.codec().decode(token, System.currentTimeMillis())
+                    : null;
+            if(verifiedToken != null) {
+                return verifiedToken;
+            }
+        }
+
         try {
-            Jwts.parser()
-                    .setSigningKey(jwtProperties.getSecretKey())
-                    .parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
+            Claims claims = Jwts.parser()
+                    .setSigningKeyResolver(keyRing)
+                    .parseClaimsJws(token)
+                    .getBody();
+            return VerifiedToken.of(token, claims);
+        } catch (ExpiredJwtException e) {
+            return VerifiedToken.rejected(TokenRejectReason.EXPIRED);
+        } catch (PrematureJwtException e) {
+            return VerifiedToken.rejected(TokenRejectReason.PREMATURE);
+        } catch (SignatureException e) {
+            return VerifiedToken.rejected(TokenRejectReason.INVALID_SIGNATURE);
+        } catch (UnsupportedJwtException e) {
+            return VerifiedToken.rejected(TokenRejectReason.UNSUPPORTED);
+        } catch (JwtException | IllegalArgumentException e) {
+            return VerifiedToken.rejected(TokenRejectReason.MALFORMED);
+        }
+    }
+
+    /**
+     * <h1>토큰 인증</h1>
+     * <p>1. 캐시에 인증 정보가 있으면 서명 검증 없이 반환</p>
+     * <p>2. 없으면 토큰 검증 후 인증 정보 생성 -> 토큰 만료 일시까지 캐시</p>
+     * <p>3. 어느 경우든 폐기된 토큰(jti)이면 empty</p>
+     * <p>Server-Timing : 캐시 조회, 인증 정보 생성 시간을 authn 으로 기록 (검증 시간은 verify)</p>
+     * @param token JWT 토큰
+     * @return 인증 정보, 유효하지 않은 토큰이면 empty
+     */
+    public Optional<Authentication> authenticate(String token) {
+        if(token == null) {
+            return Optional.empty();
+        }
+
+        long start = System.nanoTime();
+        TokenAuthenticationCache.CachedAuthentication cached = authenticationCache.get(token);
+        if(cached != null) {
+            boolean revoked = revocationList.isRevoked(cached.tokenId());
+            ServerTiming.record(ServerTiming.AUTHENTICATION, System.nanoTime() - start);
+            return revoked ? Optional.empty() : Optional.of(cached.authentication());
+        }
+
+        VerifiedToken verifiedToken = verify(token);
+        if(!verifiedToken.isValid() || revocationList.isRevoked(verifiedToken.getTokenId())) {
+            return Optional.empty();
+        }
+
+        start = System.nanoTime();
+        Authentication authentication = getAuthentication(verifiedToken);
+        authenticationCache.put(token, authentication, verifiedToken.getTokenId(), verifiedToken.getExpiration());
+        ServerTiming.record(ServerTiming.AUTHENTICATION, System.nanoTime() - start);
+        return Optional.of(authentication);
+    }
+
+    /**
+     * 폐기된 토큰인지 확인
+     * @param verifiedToken 검증된 토큰
+     * @return true -> 폐기 목록에 있는 jti
+     */
+    public boolean isRevoked(VerifiedToken verifiedToken) {
+        return revocationList.isRevoked(verifiedToken.getTokenId());
+    }
+
+    /**
+     * 토큰 폐기
+     * - 토큰의 만료 일시까지 authenticate() 가 인증 정보를 반환하지 않음
+     * @param token JWT 토큰
+     * @return true -> 폐기됨, false -> 이미 유효하지 않거나 jti 가 없는 토큰
+     */
+    public boolean revoke(String token) {
+        VerifiedToken verifiedToken = verify(token);
+        if(!verifiedToken.isValid() || verifiedToken.getTokenId() == null) {
             return false;
         }
+        revocationList.revoke(verifiedToken.getTokenId(), verifiedToken.getExpiration());
+        return true;
+    }
+
+    /**
+     * 토큰 ID (jti) 로 폐기
+     * - 토큰 원문이 없는 경우 (관리자), 만료 일시를 모르므로 액세스 토큰 최대 유효 기간 동안 유지
+     * @param tokenId 토큰 ID (jti)
+     * @param maxLifetime 토큰 최대 유효 기간
+     */
+    public void revokeTokenId(String tokenId, Duration maxLifetime) {
+        revocationList.revoke(tokenId, new Date(System.currentTimeMillis() + maxLifetime.toMillis()));
     }
 
     /**
@@ -86,10 +325,22 @@ public class TokenProvider {
      * @return 인증 정보
      */
     public Authentication getAuthentication(String token) {
-        Claims claims = getClaims(token);
-        Set<SimpleGrantedAuthority> authorities = Collections.singleton(new SimpleGrantedAuthority("ROLE_USER"));
-        User user = new User(claims.getSubject(), "", authorities);
-        return new UsernamePasswordAuthenticationToken(user, token, authorities);
+        return getAuthentication(verifyOrThrow(token));
+    }
+
+    /**
+     * 검증된 토큰 기반 인증 정보 가져오기
+     * - 토큰을 다시 파싱하지 않음
+     * - jwt.admins 에 있는 사용자는 ROLE_ADMIN 추가
+     * - credentials 는 null (인증 정보 캐시에 토큰 원문을 남기지 않음, 필요하면 Authorization 헤더에서 읽음)
+     * @param verifiedToken 검증된 토큰
+     * @return 인증 정보
+     */
+    public Authentication getAuthentication(VerifiedToken verifiedToken) {
+        Set<SimpleGrantedAuthority> authorities =
+                admins.contains(verifiedToken.getSubject()) ? ADMIN_AUTHORITIES : USER_AUTHORITIES;
+        User user = new User(verifiedToken.getSubject(), "", authorities);
+        return new UsernamePasswordAuthenticationToken(user, null, authorities);
     }
 
     /**
@@ -98,20 +349,20 @@ public class TokenProvider {
      * @return 사용자 ID
      */
     public Long getUserId(String token) {
-        Claims claims = getClaims(token);
-        return claims.get("id", Long.class);
+        return verifyOrThrow(token).getUserId();
     }
 
     /**
-     * 클레임 가져오기
-     * - 토큰 복호화 후 클레임 가져옴
+     * 검증에 성공한 토큰만 반환
      * @param token JWT 토큰
-     * @return 클레임
+     * @return 검증 결과
+     * @throws IllegalArgumentException 검증 실패 시 (메시지 : 실패 사유)
      */
-    private Claims getClaims(String token) {
-        return Jwts.parser()
-                .setSigningKey(jwtProperties.getSecretKey())
-                .parseClaimsJws(token)
-                .getBody();
+    private VerifiedToken verifyOrThrow(String token) {
+        VerifiedToken verifiedToken = verify(token);
+        if(!verifiedToken.isValid()) {
+            throw new IllegalArgumentException("Unexpected token: " + verifiedToken.getRejectReason());
+        }
+        return verifiedToken;
     }
 }
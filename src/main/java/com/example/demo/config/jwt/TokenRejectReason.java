@@ -0,0 +1,19 @@
+package com.example.demo.config.jwt;
+
+/**
+ * JWT 토큰 검증 실패 사유
+ */
+public enum TokenRejectReason {
+    /** 토큰 없음 (헤더 누락, 빈 문자열) */
+    MISSING,
+    /** 만료된 토큰 */
+    EXPIRED,
+    /** 아직 유효기간이 시작되지 않은 토큰 (nbf) */
+    PREMATURE,
+    /** 서명 불일치 */
+    INVALID_SIGNATURE,
+    /** 서명되지 않았거나 지원하지 않는 형식 */
+    UNSUPPORTED,
+    /** 구조/인코딩이 잘못된 토큰 */
+    MALFORMED
+}
@@ -0,0 +1,167 @@
+package com.example.demo.config.jwt;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * <h1>폐기된 액세스 토큰 목록 (jti 기준, 메모리)</h1>
+ * <p>TokenAuthenticationFilter 가 인증 정보를 조회하는 요청마다 I/O 없이 조회한다.</p>
+ * <p>1. 블룸 필터 : 폐기되지 않은 토큰 대부분을 해시 몇 번으로 바로 통과 (false positive 만 2단계로)</p>
+ * <p>2. 정확한 집합 : jti -> 토큰 만료 일시</p>
+ * <p>토큰 만료 일시가 지난 엔트리는 purge() 가 주기적으로 제거하고 블룸 필터를 다시 만든다.</p>
+ * <p>(만료된 토큰은 어차피 검증에 실패하므로 목록에 남길 필요가 없음)</p>
+ */
+@Slf4j
+@Component
+public class TokenRevocationList implements MeterBinder {
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+    private final ConcurrentHashMap<String, Long> revoked = new ConcurrentHashMap<>();
+    // revoke() 끼리는 동시에, 블룸 필터 재생성은 단독으로 실행 (재생성 중 추가된 jti 누락 방지)
+    private final ReentrantReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+    private volatile BloomFilter bloomFilter;
+
+    public TokenRevocationList(JwtProperties jwtProperties) {
+        JwtProperties.Revocation properties = jwtProperties.getRevocation();
+        this.expectedInsertions = properties.getExpectedInsertions();
+        this.falsePositiveRate = properties.getFalsePositiveRate();
+        this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * 토큰 폐기
+     * @param tokenId 토큰 ID (jti)
+     * @param expiration 토큰 만료 일시 (이후 목록에서 제거)
+     */
+    public void revoke(String tokenId, Date expiration) {
+        if(tokenId == null || expiration == null || expiration.getTime() <= System.currentTimeMillis()) {
+            return;
+        }
+
+        rebuildLock.readLock().lock();
+        try {
+            revoked.merge(tokenId, expiration.getTime(), Math::max);
+            bloomFilter.put(tokenId);
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 폐기 여부 (잠금, I/O 없음)
+     * @param tokenId 토큰 ID (jti)
+     * @return true -> 폐기된 토큰
+     */
+    public boolean isRevoked(String tokenId) {
+        if(tokenId == null || !bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+        Long expiresAt = revoked.get(tokenId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /**
+     * 만료된 엔트리 제거 후 블룸 필터 재생성
+     * - 제거된 엔트리가 없으면 재생성하지 않음
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval:1m}")
+    public void purge() {
+        long now = System.currentTimeMillis();
+        if(!revoked.values().removeIf(expiresAt -> expiresAt <= now)) {
+            return;
+        }
+
+        rebuildLock.writeLock().lock();
+        try {
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, revoked.size() * 2), falsePositiveRate);
+            revoked.keySet().forEach(rebuilt::put);
+            bloomFilter = rebuilt;
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+        log.debug("Revocation list purged, {} entries remaining", revoked.size());
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("auth.token.revoked", this, TokenRevocationList::size)
+                .description("Revoked access tokens that have not expired yet")
+                .register(registry);
+    }
+
+    /**
+     * 블룸 필터 (AtomicLongArray 비트 배열, 잠금 없이 동시 추가/조회)
+     * - 비트 수 m = -n ln(p) / (ln 2)^2, 해시 수 k = m/n ln 2
+     * - jti 의 64비트 해시 두 개를 조합해 k 개의 위치 계산 (double hashing)
+     */
+    private static final class BloomFilter {
+        private final AtomicLongArray bits;
+        private final long bitSize;
+        private final int hashCount;
+
+        BloomFilter(int expectedInsertions, double falsePositiveRate) {
+            long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.bits = new AtomicLongArray((int) Math.max(1, (m + 63) >>> 6));
+            this.bitSize = (long) bits.length() << 6;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+        }
+
+        void put(String value) {
+            long hash1 = hash(value, 0x9E3779B97F4A7C15L);
+            long hash2 = hash(value, 0xC2B2AE3D27D4EB4FL);
+            for(int i = 0; i < hashCount; i++) {
+                long index = Math.floorMod(hash1 + i * hash2, bitSize);
+                long mask = 1L << index;
+                int word = (int) (index >>> 6);
+                long current;
+                do {
+                    current = bits.get(word);
+                    if((current & mask) != 0) {
+                        break;
+                    }
+                } while (!bits.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        boolean mightContain(String value) {
+            long hash1 = hash(value, 0x9E3779B97F4A7C15L);
+            long hash2 = hash(value, 0xC2B2AE3D27D4EB4FL);
+            for(int i = 0; i < hashCount; i++) {
+                long index = Math.floorMod(hash1 + i * hash2, bitSize);
+                if((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * FNV-1a(문자 단위) 후 splitmix64 로 섞은 64비트 해시
+         */
+        private static long hash(String value, long seed) {
+            long h = 0xCBF29CE484222325L ^ seed;
+            for(int i = 0; i < value.length(); i++) {
+                h ^= value.charAt(i);
+                h *= 0x100000001B3L;
+            }
+            h ^= h >>> 30;
+            h *= 0xBF58476D1CE4E5B9L;
+            h ^= h >>> 27;
+            h *= 0x94D049BB133111EBL;
+            return h ^ (h >>> 31);
+        }
+    }
+}
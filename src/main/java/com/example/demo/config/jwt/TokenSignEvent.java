@@ -0,0 +1,27 @@
+package com.example.demo.config.jwt;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR 이벤트 : JWT 토큰 생성 (서명)
+ * - 기본 임계값 1 ms 이상인 경우만 기록 (JFC 설정 파일로 변경 가능)
+ */
+@Name("com.example.demo.TokenSign")
+@Label("Token Sign")
+@Category({"LoginDemo", "Token"})
+@Description("JWT minted and signed by TokenProvider")
+@Threshold("1 ms")
+@StackTrace(false)
+class TokenSignEvent extends jdk.jfr.Event {
+    @Label("Token Length")
+    int tokenLength;
+
+    @Label("Compact Codec")
+    @Description("Signed by Hs256TokenCodec instead of jjwt")
+    boolean compactCodec;
+}
@@ -0,0 +1,27 @@
+package com.example.demo.config.jwt;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR 이벤트 : JWT 토큰 검증
+ * - 기본 임계값 1 ms 이상인 경우만 기록 (JFC 설정 파일로 변경 가능)
+ */
+@Name("com.example.demo.TokenVerify")
+@Label("Token Verify")
+@Category({"LoginDemo", "Token"})
+@Description("JWT parsed and signature checked by TokenProvider")
+@Threshold("1 ms")
+@StackTrace(false)
+class TokenVerifyEvent extends jdk.jfr.Event {
+    @Label("Token Length")
+    int tokenLength;
+
+    @Label("Outcome")
+    @Description("valid or the reject reason")
+    String outcome;
+}
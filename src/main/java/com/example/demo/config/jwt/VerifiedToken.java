@@ -0,0 +1,76 @@
+package com.example.demo.config.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * <h1>JWT 토큰 검증 결과</h1>
+ * <p>토큰을 한 번만 파싱/서명 검증하고, 그 결과(클레임 또는 실패 사유)를 담아 재사용한다.</p>
+ * <p>- 검증 성공 : subject, id, jti, 발급/만료 일시</p>
+ * <p>- 검증 실패 : rejectReason</p>
+ */
+@Getter
+public final class VerifiedToken {
+    private final String token;
+    private final String subject;
+    private final Long userId;
+    private final String tokenId;
+    private final Date issuedAt;
+    private final Date expiration;
+    private final TokenRejectReason rejectReason;
+
+    private VerifiedToken(String token, String subject, Long userId, String tokenId, Date issuedAt, Date expiration,
+                          TokenRejectReason rejectReason) {
+        this.token = token;
+        this.subject = subject;
+        this.userId = userId;
+        this.tokenId = tokenId;
+        this.issuedAt = issuedAt;
+        this.expiration = expiration;
+        this.rejectReason = rejectReason;
+    }
+
+    /**
+     * 검증된 클레임으로 결과 생성
+     * @param token JWT 토큰
+     * @param claims 검증된 클레임
+     * @return 검증 성공 결과
+     */
+    public static VerifiedToken of(String token, Claims claims) {
+        return new VerifiedToken(token, claims.getSubject(), claims.get("id", Long.class), claims.getId(),
+                claims.getIssuedAt(), claims.getExpiration(), null);
+    }
+
+    /**
+     * 검증된 값으로 결과 생성 (Hs256TokenCodec 에서 사용)
+     * @param token JWT 토큰
+     * @param subject 토큰제목
+     * @param userId 유저 ID
+     * @param tokenId 토큰 ID (jti)
+     * @param issuedAt 발급일시
+     * @param expiration 만료일시
+     * @return 검증 성공 결과
+     */
+    static VerifiedToken of(String token, String subject, Long userId, String tokenId, Date issuedAt, Date expiration) {
+        return new VerifiedToken(token, subject, userId, tokenId, issuedAt, expiration, null);
+    }
+
+    /**
+     * 검증 실패 결과 생성
+     * @param reason 실패 사유
+     * @return 검증 실패 결과
+     */
+    public static VerifiedToken rejected(TokenRejectReason reason) {
+        return new VerifiedToken(null, null, null, null, null, null, reason);
+    }
+
+    /**
+     * 검증 성공 여부
+     * @return true -> 서명, 만료 검증 모두 통과
+     */
+    public boolean isValid() {
+        return rejectReason == null;
+    }
+}
@@ -1,11 +1,12 @@
 package com.example.demo.config.oauth;
 
 import com.example.demo.config.jwt.TokenProvider;
-import com.example.demo.dao.RefreshTokenDAO;
-import com.example.demo.dao.UserDAO;
+import com.example.demo.dto.UserSnapshotDTO;
 import com.example.demo.repository.RefreshTokenRepository;
 import com.example.demo.service.UserService;
 import com.example.demo.util.CookieUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,6 +21,7 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.time.Instant;
 
 @RequiredArgsConstructor
 @Component
@@ -33,9 +35,11 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
     private final RefreshTokenRepository refreshTokenRepository;
     private final OAuth2AuthorizationRequestBasedOnCookieRepository auth2AuthorizationRequestRepository;
     private final UserService userService;
+    private final MeterRegistry meterRegistry;
 
     /**
      * OAuth2 인증 성공 핸들러
+     * - 지표 : auth.oauth2.success (토큰 발급부터 리다이렉트까지)
      * @param request 요청
      * @param response 응답
      * @param authentication 인증
@@ -44,16 +48,26 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
      */
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException, ServletException {
-        OAuth2User oAuth2User = (OAuth2User) authentication.getPrincipal();
-        UserDAO user = userService.findByEmail((String) oAuth2User.getAttributes().get("email"));
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            handleSuccess(request, response, authentication);
+        } finally {
+            sample.stop(meterRegistry.timer("auth.oauth2.success"));
+        }
+    }
+
+    private void handleSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException {
+        OAuth2UserPrincipal principal = getPrincipal(authentication);
+        Long userId = principal.getUserId();
+        String email = principal.getEmail();
 
         // 리프레시 토큰 생성 -> 저장 -> 쿠키에 저장
-        String refreshToken = tokenProvider.generateToken(user, REFRESH_TOKEN_DURATION);
-        saveRefreshToken(user.getId(), refreshToken);
+        String refreshToken = tokenProvider.generateToken(userId, email, REFRESH_TOKEN_DURATION);
+        saveRefreshToken(userId, refreshToken);
         addRefreshTokenToCookie(request, response, refreshToken);
 
         // 액세스 토큰 생성 -> URL 경로에 액세스 토큰 추가
-        String accessToken = tokenProvider.generateToken(user, ACCESS_TOKEN_DURATION);
+        String accessToken = tokenProvider.generateToken(userId, email, ACCESS_TOKEN_DURATION);
         String targetUrl = getTargetUrl(accessToken);
 
         // 인증 관련 설정값, 쿠키 제거
@@ -63,17 +77,31 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
         getRedirectStrategy().sendRedirect(request, response, targetUrl);
     }
 
+    /**
+     * 인증 사용자 가져오기
+     * - OAuth2UserCustomService 가 저장한 사용자 ID, 이메일을 그대로 사용 (재조회 없음)
+     * - 다른 경로로 인증된 OAuth2User 는 이메일로 사용자 조회 (UserCache)
+     * @param authentication 인증
+     * @return 인증 사용자
+     */
+    private OAuth2UserPrincipal getPrincipal(Authentication authentication) {
+        OAuth2User oAuth2User = (OAuth2User) authentication.getPrincipal();
+        if(oAuth2User instanceof OAuth2UserPrincipal principal) {
+            return principal;
+        }
+
+        UserSnapshotDTO user = userService.findByEmail((String) oAuth2User.getAttributes().get("email"));
+        return new OAuth2UserPrincipal(oAuth2User, user.getId(), user.getEmail());
+    }
+
     /**
      * 생성된 리프레시 토큰을 전달받아 데이터베이스에 저장
+     * - 단일 MERGE 문 (있으면 교체, 없으면 추가), 만료 일시(expires_at) 포함
      * @param userId 사용자 ID
      * @param newRefreshToken 생성된 리프레시 토큰
      */
     private void saveRefreshToken(Long userId, String newRefreshToken) {
-        RefreshTokenDAO refreshToken = refreshTokenRepository.findByUserId(userId)
-                .map(entity -> entity.update(newRefreshToken))
-                .orElse(new RefreshTokenDAO(userId, newRefreshToken));
-
-        refreshTokenRepository.save(refreshToken);
+        refreshTokenRepository.saveRefreshToken(userId, newRefreshToken, Instant.now().plus(REFRESH_TOKEN_DURATION));
     }
 
     /**
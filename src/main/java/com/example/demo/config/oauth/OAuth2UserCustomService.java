@@ -1,6 +1,6 @@
 package com.example.demo.config.oauth;
 
-import com.example.demo.dao.UserDAO;
+import com.example.demo.config.cache.UserCache;
 import com.example.demo.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
@@ -16,35 +16,41 @@ import java.util.Map;
 public class OAuth2UserCustomService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
+    private final UserCache userCache;
 
     /**
      * 요청에 의한 유저 정보 불러오기
      * @param userRequest 유저 정보 요청
-     * @return 유저 정보
+     * @return 유저 정보 (저장된 사용자 ID, 이메일 포함)
      * @throws OAuth2AuthenticationException OAuth2 인증 예외
      */
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
         OAuth2User user = super.loadUser(userRequest);
-        saveOrUpdate(user);
-        return user;
+        String email = (String) user.getAttributes().get("email");
+        Long userId = saveOrUpdate(user);
+        return new OAuth2UserPrincipal(user, userId, email);
     }
 
     /**
      * 유저가 있으면 업데이트, 없으면 유저 생성
+     * - 단일 MERGE 문으로 처리, 닉네임이 바뀐 경우에만 수정
+     * - 행이 추가/수정된 경우 사용자 캐시 제거
      * @param oAuth2User 인증된 유저
-     * @return 생성/업데이트 된 유저
+     * @return 생성/업데이트 된 유저 ID
      */
-    private UserDAO saveOrUpdate(OAuth2User oAuth2User) {
+    private Long saveOrUpdate(OAuth2User oAuth2User) {
         Map<String, Object> attributes = oAuth2User.getAttributes();
 
         String email = (String) attributes.get("email");
         String name = (String) attributes.get("name");
 
-        UserDAO user = userRepository.findByEmail(email)
-                .map(entity -> entity.update(name))
-                .orElse(UserDAO.builder().email(email).nickname(name).build());
-
-        return userRepository.save(user);
+        int changed = userRepository.saveOAuthUser(email, name);
+        Long userId = userRepository.findIdByEmail(email)
+                .orElseThrow(() -> new IllegalStateException("Unexpected User"));
+        if(changed > 0) {
+            userCache.evict(userId, email);
+        }
+        return userId;
     }
 }
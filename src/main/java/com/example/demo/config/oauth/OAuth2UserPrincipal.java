@@ -0,0 +1,46 @@
+package com.example.demo.config.oauth;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * <h1>OAuth2 인증 사용자</h1>
+ * <p>OAuth2 제공자의 사용자 정보에 저장된 사용자의 ID, 이메일을 함께 담는다.</p>
+ * <p>인증 성공 핸들러에서 사용자를 다시 조회하지 않고 토큰을 발급할 수 있다.</p>
+ */
+@Getter
+public class OAuth2UserPrincipal implements OAuth2User, Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final OAuth2User delegate;
+    private final Long userId;
+    private final String email;
+
+    public OAuth2UserPrincipal(OAuth2User delegate, Long userId, String email) {
+        this.delegate = delegate;
+        this.userId = userId;
+        this.email = email;
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+        return delegate.getAttributes();
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return delegate.getAuthorities();
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.demo.config.password;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <h1>BCrypt 패스워드 해시</h1>
+ * <p>시작 시 현재 하드웨어에서 해시 1회가 목표 시간(targetLatency) 안에 끝나는 가장 큰 strength 를 고른다.</p>
+ * <p>- strength 가 1 씩 오를 때마다 해시 시간은 2배 -> 낮은 strength 로 측정한 시간으로 추정</p>
+ * <p>- minStrength 미만으로는 내려가지 않음 (보안 하한)</p>
+ * <p>- strength 설정 값이 있으면 측정하지 않고 그대로 사용</p>
+ * <p>다시 해시는 하한(strength 설정 값 또는 minStrength)보다 낮은 해시만 (높은 strength 는 낮추지 않음)</p>
+ */
+@Slf4j
+@Component
+public class BCryptPasswordHasher implements PasswordHasher {
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+    private static final int PROBE_STRENGTH = 6;
+    private static final int PROBE_ROUNDS = 3;
+    private static final String PROBE_PASSWORD = "calibration-password";
+
+    @Getter
+    private final int strength;
+    // 이보다 낮은 strength 의 해시만 다시 해시 (설정한 strength, 없으면 minStrength)
+    private final int rehashBelow;
+    private final BCryptPasswordEncoder encoder;
+
+    public BCryptPasswordHasher(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        this.strength = properties.getStrength() > 0
+                ? properties.getStrength()
+                : calibrate(properties.getTargetLatency(), properties.getMinStrength(), properties.getMaxStrength());
+        this.rehashBelow = properties.getStrength() > 0 ? properties.getStrength() : properties.getMinStrength();
+        this.encoder = new BCryptPasswordEncoder(strength);
+
+        Gauge.builder("password.hash.strength", this, BCryptPasswordHasher::getStrength)
+                .description("BCrypt strength chosen for new password hashes")
+                .register(meterRegistry);
+        log.info("BCrypt strength {} selected (target latency {})", strength, properties.getTargetLatency());
+    }
+
+    @Override
+    public String hash(CharSequence rawPassword) {
+        return encoder.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String hashedPassword) {
+        return hashedPassword != null && encoder.matches(rawPassword, hashedPassword);
+    }
+
+    /**
+     * BCrypt 가 아니거나 strength 가 하한보다 낮으면 다시 해시
+     * - 하한 : strength 설정 값, 없으면 minStrength
+     * - 보정한 strength 는 노드, 재시작마다 다를 수 있으므로 기준으로 쓰지 않음
+     *   (다르다고 다시 해시하면 로그인마다 해시가 오가며 DB 쓰기 발생)
+     * @param hashedPassword 저장된 해시
+     * @return true -> 다시 해시 필요
+     */
+    @Override
+    public boolean needsRehash(String hashedPassword) {
+        if(hashedPassword == null || hashedPassword.isEmpty()) {
+            return false;
+        }
+
+        Matcher matcher = BCRYPT_PATTERN.matcher(hashedPassword);
+        if(!matcher.find()) {
+            return true;
+        }
+        return Integer.parseInt(matcher.group(1)) < rehashBelow;
+    }
+
+    /**
+     * 목표 시간 안에 끝나는 가장 큰 strength 계산
+     * @param targetLatency 해시 1회 목표 시간
+     * @param minStrength 최소 strength
+     * @param maxStrength 최대 strength
+     * @return strength
+     */
+    static int calibrate(Duration targetLatency, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(PROBE_STRENGTH);
+        probe.encode(PROBE_PASSWORD); // 워밍업
+
+        long probeNanos = Long.MAX_VALUE;
+        for(int i = 0; i < PROBE_ROUNDS; i++) {
+            long start = System.nanoTime();
+            probe.encode(PROBE_PASSWORD);
+            probeNanos = Math.min(probeNanos, System.nanoTime() - start);
+        }
+
+        long targetNanos = targetLatency.toNanos();
+        int strength = minStrength;
+        while (strength < maxStrength
+                && estimateNanos(probeNanos, strength + 1) <= targetNanos) {
+            strength++;
+        }
+        return strength;
+    }
+
+    private static long estimateNanos(long probeNanos, int strength) {
+        int shift = strength - PROBE_STRENGTH;
+        if(shift >= Long.numberOfLeadingZeros(probeNanos) - 1) {
+            return Long.MAX_VALUE;
+        }
+        return probeNanos << shift;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.demo.config.password;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@Configuration
+public class PasswordEncoderConfig {
+
+    /**
+     * 패스워드 인코더 빈 등록
+     * - PasswordHasher(시작 시 strength 보정) 를 PasswordEncoder 로 노출
+     * - WebSecurityConfig 가 UserService 를 주입받으므로 순환 참조를 피하기 위해 별도 설정으로 분리
+     * @param passwordHasher 패스워드 해시
+     * @return PasswordEncoder
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(PasswordHasher passwordHasher) {
+        return new PasswordHasherEncoder(passwordHasher);
+    }
+}
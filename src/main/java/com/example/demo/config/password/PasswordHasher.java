@@ -0,0 +1,31 @@
+package com.example.demo.config.password;
+
+/**
+ * <h1>패스워드 해시 SPI</h1>
+ * <p>해시 알고리즘, 작업 비용(cost)을 구현체가 결정한다.</p>
+ * <p>needsRehash() 가 true 인 저장된 해시는 hash() 로 다시 해시해서 저장할 대상이다.</p>
+ */
+public interface PasswordHasher {
+
+    /**
+     * 패스워드 해시
+     * @param rawPassword 패스워드 원문
+     * @return 해시된 패스워드
+     */
+    String hash(CharSequence rawPassword);
+
+    /**
+     * 패스워드 일치 여부
+     * @param rawPassword 패스워드 원문
+     * @param hashedPassword 저장된 해시
+     * @return true -> 일치
+     */
+    boolean matches(CharSequence rawPassword, String hashedPassword);
+
+    /**
+     * 다시 해시해야 하는지 여부
+     * @param hashedPassword 저장된 해시
+     * @return true -> 알고리즘이 다르거나 작업 비용이 하한보다 낮음
+     */
+    boolean needsRehash(String hashedPassword);
+}
@@ -0,0 +1,28 @@
+package com.example.demo.config.password;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * PasswordHasher 를 스프링 시큐리티 PasswordEncoder 로 사용하기 위한 어댑터
+ * - upgradeEncoding() == needsRehash() (AuthenticationManager 의 DaoAuthenticationProvider 가 로그인 성공 시 다시 해시에 사용)
+ */
+@RequiredArgsConstructor
+public class PasswordHasherEncoder implements PasswordEncoder {
+    private final PasswordHasher passwordHasher;
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return passwordHasher.hash(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return passwordHasher.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordHasher.needsRehash(encodedPassword);
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.demo.config.password;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * <h1>패스워드 해시 전용 실행기</h1>
+ * <p>BCrypt 해시를 톰캣 요청 스레드가 아닌 CPU 코어 수 크기의 전용 스레드 풀에서 실행한다.</p>
+ * <p>- 대기열이 가득 차면 PasswordHashingRejectedException 으로 즉시 거절 (무한 대기 없음)</p>
+ * <p>- 제한 시간이 지나면 대기열에서 제거하고, 시작 전에 기한이 지난 요청은 해시하지 않음</p>
+ * <p>  (이미 시작한 BCrypt 는 인터럽트를 확인하지 않으므로 끝까지 실행됨)</p>
+ * <h3>메트릭</h3>
+ * <p>- password.hash.queue.depth : 대기 중인 해시 요청 수</p>
+ * <p>- password.hash.active : 실행 중인 해시 요청 수</p>
+ * <p>- password.hash.latency : 해시 소요 시간</p>
+ * <p>- password.hash.rejected : 거절된 요청 수</p>
+ */
+@Component
+public class PasswordHashingExecutor {
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final Duration retryAfter;
+    private final Timer hashTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingExecutor(PasswordEncoder passwordEncoder,
+                                   PasswordHashingProperties properties,
+                                   MeterRegistry meterRegistry) {
+        int poolSize = properties.getPoolSize() > 0
+                ? properties.getPoolSize()
+                : Runtime.getRuntime().availableProcessors();
+
+        this.passwordEncoder = passwordEncoder;
+        this.timeout = properties.getTimeout();
+        this.retryAfter = properties.getRetryAfter();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("password.hash.queue.depth", executor, e -> e.getQueue().size())
+                .description("Password hashing requests waiting in the queue")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashing requests in progress")
+                .register(meterRegistry);
+        this.hashTimer = Timer.builder("password.hash.latency")
+                .description("Time spent hashing a password")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hash.rejected")
+                .description("Password hashing requests rejected because the queue was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 패스워드 해시
+     * - 전용 스레드 풀에서 해시 후 결과를 기다림
+     * @param rawPassword 패스워드 원문
+     * @return 해시된 패스워드
+     * @throws PasswordHashingRejectedException 대기열이 가득 찼거나 제한 시간 안에 끝나지 않은 경우
+     */
+    public String encode(CharSequence rawPassword) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Future<String> future;
+        try {
+            future = executor.submit(() -> hash(rawPassword, deadline));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new PasswordHashingRejectedException(retryAfter);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            cancel(future);
+            rejectedCounter.increment();
+            throw new PasswordHashingRejectedException(retryAfter);
+        } catch (InterruptedException e) {
+            cancel(future);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if(e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 기다리지 않는 해시 요청 취소
+     * - 대기 중이면 대기열에서 바로 제거 (대기열 자리 반환)
+     */
+    private void cancel(Future<String> future) {
+        future.cancel(true);
+        if(future instanceof Runnable task) {
+            executor.remove(task);
+        }
+    }
+
+    private String hash(CharSequence rawPassword, long deadline) {
+        // 대기열에서 기다리는 동안 기한이 지났으면 호출 측은 이미 거절 응답 -> 해시하지 않음
+        if(System.nanoTime() - deadline >= 0) {
+            throw new CancellationException("Password hashing deadline exceeded");
+        }
+        long start = System.nanoTime();
+        try {
+            return passwordEncoder.encode(rawPassword);
+        } finally {
+            hashTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
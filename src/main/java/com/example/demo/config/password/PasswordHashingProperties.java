@@ -0,0 +1,33 @@
+package com.example.demo.config.password;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 패스워드 해시 전용 스레드 풀 설정
+ * - poolSize : 스레드 수 (0 이하 -> CPU 코어 수)
+ * - queueCapacity : 대기열 크기 (가득 차면 즉시 거절)
+ * - timeout : 해시 완료까지 최대 대기 시간
+ * - retryAfter : 거절 응답의 Retry-After
+ * - strength : BCrypt strength (0 이하 -> 시작 시 targetLatency 기준으로 보정)
+ * - targetLatency : 해시 1회 목표 시간
+ * - minStrength, maxStrength : 보정 범위
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("password-hashing")
+public class PasswordHashingProperties {
+    private int poolSize = 0;
+    private int queueCapacity = 64;
+    private Duration timeout = Duration.ofSeconds(5);
+    private Duration retryAfter = Duration.ofSeconds(1);
+    private int strength = 0;
+    private Duration targetLatency = Duration.ofMillis(50);
+    private int minStrength = 10;
+    private int maxStrength = 16;
+}
@@ -0,0 +1,18 @@
+package com.example.demo.config.password;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 패스워드 해시 스레드 풀이 포화 상태라 요청을 거절한 경우
+ */
+@Getter
+public class PasswordHashingRejectedException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public PasswordHashingRejectedException(Duration retryAfter) {
+        super("Password hashing capacity exceeded");
+        this.retryAfter = retryAfter;
+    }
+}
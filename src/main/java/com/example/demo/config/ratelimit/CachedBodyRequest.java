@@ -0,0 +1,113 @@
+package com.example.demo.config.ratelimit;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * 요청 본문 앞부분(maxBytes)을 미리 읽어 두고, 이후 필터/컨트롤러에는 같은 본문을 다시 제공하는 요청
+ * - maxBytes 보다 긴 본문은 읽은 부분 + 나머지 원본 스트림으로 이어서 제공 (전체를 버퍼링하지 않음)
+ */
+final class CachedBodyRequest extends HttpServletRequestWrapper {
+    private final byte[] prefix;
+    private final boolean complete;
+    private ServletInputStream inputStream;
+
+    private CachedBodyRequest(HttpServletRequest request, byte[] prefix, boolean complete) {
+        super(request);
+        this.prefix = prefix;
+        this.complete = complete;
+    }
+
+    static CachedBodyRequest read(HttpServletRequest request, int maxBytes) throws IOException {
+        byte[] prefix = request.getInputStream().readNBytes(maxBytes + 1);
+        return new CachedBodyRequest(request, prefix, prefix.length <= maxBytes);
+    }
+
+    /**
+     * 미리 읽은 본문
+     * @return 본문 전체, maxBytes 보다 길면 null
+     */
+    byte[] body() {
+        return complete ? prefix : null;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        if(inputStream == null) {
+            InputStream body = complete
+                    ? new ByteArrayInputStream(prefix)
+                    : new SequenceInputStream(new ByteArrayInputStream(prefix), super.getInputStream());
+            inputStream = new BodyInputStream(body);
+        }
+        return inputStream;
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        String encoding = getCharacterEncoding();
+        Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+        return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+
+    private static final class BodyInputStream extends ServletInputStream {
+        private final InputStream body;
+        private boolean finished;
+
+        BodyInputStream(InputStream body) {
+            this.body = body;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = body.read();
+            finished = b < 0;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = body.read(b, off, len);
+            finished = n < 0;
+            return n;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        /**
+         * 비동기 읽기 (본문은 항상 읽을 수 있으므로 바로 호출)
+         * - onDataAvailable -> 끝까지 읽었으면 onAllDataRead, 읽는 중 IOException 은 onError
+         */
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            Objects.requireNonNull(readListener);
+            try {
+                readListener.onDataAvailable();
+                if(isFinished()) {
+                    readListener.onAllDataRead();
+                }
+            } catch (IOException e) {
+                readListener.onError(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.demo.config.ratelimit;
+
+import com.example.demo.config.jwt.TokenProvider;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+    /**
+     * 토큰 버킷 저장소
+     * - 지표 : rate.limit.buckets (현재 버킷 수)
+     * @param properties 요청 제한 설정
+     * @param meterRegistry 지표 레지스트리
+     * @return RateLimiter
+     */
+    @Bean
+    public RateLimiter rateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        Duration longestBurstWindow = RateLimitFilter.longestBurstWindow(properties);
+        Duration idleTimeout = properties.getIdleTimeout().compareTo(longestBurstWindow) >= 0
+                ? properties.getIdleTimeout()
+                : longestBurstWindow;
+        RateLimiter rateLimiter = new RateLimiter(properties.getMaximumKeys(), idleTimeout);
+        Gauge.builder("rate.limit.buckets", rateLimiter, RateLimiter::size)
+                .description("Token buckets currently held by the rate limiter")
+                .register(meterRegistry);
+        return rateLimiter;
+    }
+
+    /**
+     * 요청 제한 필터 등록
+     * - Server-Timing 필터 다음, 스프링 시큐리티 필터 체인보다 먼저 실행 (거부된 요청은 인증/컨트롤러 비용 없음)
+     * @return FilterRegistrationBean
+     */
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(RateLimitProperties properties,
+                                                                   RateLimiter rateLimiter,
+                                                                   TokenProvider tokenProvider,
+                                                                   MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(
+                new RateLimitFilter(properties, rateLimiter, tokenProvider, meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
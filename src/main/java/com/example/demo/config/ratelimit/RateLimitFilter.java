@@ -0,0 +1,203 @@
+package com.example.demo.config.ratelimit;
+
+import com.example.demo.config.jwt.TokenProvider;
+import com.example.demo.config.jwt.VerifiedToken;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h1>요청 제한 필터</h1>
+ * <p>설정된 경로(rate-limit.routes)의 요청을 기준(ip, email, user)별 토큰 버킷으로 제한한다.</p>
+ * <p>- 거부 : 429 + Retry-After (초), 컨트롤러/시큐리티 필터 체인까지 가지 않음</p>
+ * <p>- 기준 값이 없으면 (email 파라미터 없음, 유효하지 않은 리프레시 토큰 등) 그 제한은 건너뜀</p>
+ * <p>- user : JSON 본문의 refreshToken 서명을 검증해 사용자 ID 를 얻음 (위조한 ID 로 다른 사용자를 막을 수 없음)</p>
+ * <p>  검증 결과는 요청 속성(VERIFIED_REFRESH_TOKEN)으로 넘겨 TokenService 가 다시 검증하지 않음</p>
+ * <p>지표 : rate.limit.requests (route, key, outcome = allowed / throttled)</p>
+ * <p>- allowed 는 요청의 모든 제한을 통과한 경우에만 증가</p>
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+    /** user 기준에서 검증한 리프레시 토큰 (VerifiedToken, 유효한 토큰만) */
+    public static final String VERIFIED_REFRESH_TOKEN = "com.example.demo.config.ratelimit.RateLimitFilter.VERIFIED_REFRESH_TOKEN";
+
+    // user 기준 : 이보다 긴 본문은 읽지 않음 (ip 제한만 적용)
+    static final int MAX_BODY_BYTES = 16 * 1024;
+
+    private final Map<String, List<Rule>> routes = new HashMap<>();
+    private final RateLimiter rateLimiter;
+    private final TokenProvider tokenProvider;
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    public RateLimitFilter(RateLimitProperties properties, RateLimiter rateLimiter, TokenProvider tokenProvider,
+                           MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.tokenProvider = tokenProvider;
+
+        for(RateLimitProperties.Route route : properties.getRoutes()) {
+            List<Rule> rules = new ArrayList<>();
+            for(RateLimitProperties.Limit limit : route.getLimits()) {
+                rules.add(Rule.of(route, limit, meterRegistry));
+            }
+            routes.put(routeKey(route.getMethod(), route.getPath()), List.copyOf(rules));
+        }
+    }
+
+    /**
+     * 버킷이 가득 찬 상태가 되는 데 걸리는 가장 긴 시간 (버킷 제거 시간의 하한)
+     * @param properties 요청 제한 설정
+     * @return interval * burst 의 최댓값
+     */
+    static Duration longestBurstWindow(RateLimitProperties properties) {
+        long longest = 0;
+        for(RateLimitProperties.Route route : properties.getRoutes()) {
+            for(RateLimitProperties.Limit limit : route.getLimits()) {
+                long burst = limit.getBurst() > 0 ? limit.getBurst() : limit.getPermits();
+                longest = Math.max(longest, limit.getPeriod().toNanos() / limit.getPermits() * burst);
+            }
+        }
+        return Duration.ofNanos(longest);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        // 디코딩, 정규화된 경로로 비교 (/save%55ser, /saveUser;x 등으로 우회 방지)
+        String path = UrlPathHelper.defaultInstance.getPathWithinApplication(request);
+        List<Rule> rules = routes.get(routeKey(request.getMethod(), path));
+        if(rules == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletRequest target = request;
+        List<Rule> passed = new ArrayList<>(rules.size());
+        for(Rule rule : rules) {
+            if(rule.key() == RateLimitKey.USER && !(target instanceof CachedBodyRequest)) {
+                target = CachedBodyRequest.read(request, MAX_BODY_BYTES);
+            }
+            String value = keyValue(rule.key(), target);
+            if(value == null) {
+                continue;
+            }
+
+            long waitNanos = rateLimiter.tryAcquire(rule.name() + ':' + value, rule.intervalNanos(),
+                    rule.toleranceNanos());
+            if(waitNanos > 0) {
+                rule.throttled().increment();
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER,
+                        String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999))));
+                return;
+            }
+            passed.add(rule);
+        }
+        // 모든 제한을 통과한 뒤에 집계 (뒤의 제한에 거부된 요청을 앞의 제한에서 allowed 로 세지 않음)
+        for(Rule rule : passed) {
+            rule.allowed().increment();
+        }
+        filterChain.doFilter(target, response);
+    }
+
+    private String keyValue(RateLimitKey key, HttpServletRequest request) {
+        return switch (key) {
+            case IP -> request.getRemoteAddr();
+            case EMAIL -> {
+                String email = request.getParameter("email");
+                yield email != null && !email.isBlank() ? email.trim().toLowerCase(Locale.ROOT) : null;
+            }
+            case USER -> {
+                byte[] body = ((CachedBodyRequest) request).body();
+                String refreshToken = body != null ? readRefreshToken(body) : null;
+                if(refreshToken == null) {
+                    yield null;
+                }
+                VerifiedToken verifiedToken = tokenProvider.verify(refreshToken);
+                if(!verifiedToken.isValid()) {
+                    yield null;
+                }
+                request.setAttribute(VERIFIED_REFRESH_TOKEN, verifiedToken);
+                yield verifiedToken.getUserId() != null ? verifiedToken.getUserId().toString() : null;
+            }
+        };
+    }
+
+    /**
+     * {"refreshToken": "..."} 에서 refreshToken 만 읽음 (객체로 역직렬화하지 않음)
+     */
+    private String readRefreshToken(byte[] body) {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if(parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while(parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if("refreshToken".equals(field) && value == JsonToken.VALUE_STRING) {
+                    return parser.getText();
+                }
+                parser.skipChildren();
+            }
+            return null;
+        } catch (IOException e) {
+            // 잘못된 JSON 은 컨트롤러에서 400
+            return null;
+        }
+    }
+
+    private static String routeKey(String method, String path) {
+        return method.toUpperCase(Locale.ROOT) + ' ' + path;
+    }
+
+    /**
+     * 경로의 제한 하나
+     * @param name 버킷 키 접두사 (경로 + 기준)
+     * @param key 기준
+     * @param intervalNanos period / permits
+     * @param toleranceNanos interval * burst
+     * @param allowed 허용 카운터
+     * @param throttled 거부 카운터
+     */
+    private record Rule(String name, RateLimitKey key, long intervalNanos, long toleranceNanos,
+                        Counter allowed, Counter throttled) {
+
+        static Rule of(RateLimitProperties.Route route, RateLimitProperties.Limit limit, MeterRegistry meterRegistry) {
+            if(limit.getKey() == null || limit.getPermits() <= 0) {
+                throw new IllegalArgumentException("Unexpected rate limit for " + route.getPath());
+            }
+            long intervalNanos = limit.getPeriod().toNanos() / limit.getPermits();
+            long burst = limit.getBurst() > 0 ? limit.getBurst() : limit.getPermits();
+            String key = limit.getKey().name().toLowerCase(Locale.ROOT);
+            return new Rule(route.getPath() + '#' + key, limit.getKey(), intervalNanos, intervalNanos * burst,
+                    counter(meterRegistry, route.getPath(), key, "allowed"),
+                    counter(meterRegistry, route.getPath(), key, "throttled"));
+        }
+
+        private static Counter counter(MeterRegistry meterRegistry, String route, String key, String outcome) {
+            return Counter.builder("rate.limit.requests")
+                    .description("Requests checked by the rate limiter")
+                    .tag("route", route)
+                    .tag("key", key)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.demo.config.ratelimit;
+
+/**
+ * 요청 제한 기준 (버킷 키)
+ */
+public enum RateLimitKey {
+    /** 클라이언트 IP (request.getRemoteAddr(), 프록시 뒤라면 server.forward-headers-strategy 설정) */
+    IP,
+    /** 폼 파라미터 email (소문자) */
+    EMAIL,
+    /** JSON 본문 refreshToken 의 사용자 ID (서명 검증에 성공한 토큰만) */
+    USER
+}
@@ -0,0 +1,58 @@
+package com.example.demo.config.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 제한 설정
+ * - enabled : 사용 여부 (false -> 필터 등록 안 함)
+ * - maximumKeys : 최대 버킷 수 (초과 시 오래 쓰지 않은 버킷부터 제거)
+ * - idleTimeout : 요청이 없는 버킷 제거 시간 (가장 긴 permits/period 버스트 구간보다 짧으면 그 구간으로 늘림)
+ * - routes : 경로별 제한
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    private long maximumKeys = 1_000_000;
+    private Duration idleTimeout = Duration.ofMinutes(10);
+    private List<Route> routes = new ArrayList<>();
+
+    /**
+     * 경로별 제한
+     * - path : 요청 경로 (정확히 일치)
+     * - method : HTTP 메서드
+     * - limits : 기준별 제한 (모두 통과해야 허용)
+     */
+    @Getter
+    @Setter
+    public static class Route {
+        private String path;
+        private String method = "POST";
+        private List<Limit> limits = new ArrayList<>();
+    }
+
+    /**
+     * 제한 (토큰 버킷)
+     * - key : 버킷 기준 (ip, email, user)
+     * - permits : period 동안 허용하는 요청 수 (채워지는 속도)
+     * - period : 기간
+     * - burst : 한 번에 허용하는 최대 요청 수 (버킷 크기, 0 -> permits)
+     */
+    @Getter
+    @Setter
+    public static class Limit {
+        private RateLimitKey key;
+        private long permits;
+        private Duration period = Duration.ofSeconds(1);
+        private long burst = 0;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.demo.config.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <h1>토큰 버킷 (GCRA)</h1>
+ * <p>키마다 AtomicLong 하나(다음 요청의 이론적 도착 시각, TAT)만 두고 CAS 로 갱신한다. (잠금 없음)</p>
+ * <p>- 허용 : max(TAT, now) + interval - tolerance <= now -> TAT 갱신</p>
+ * <p>- 거부 : 허용되는 시각까지 남은 시간 반환 (Retry-After)</p>
+ * <p>(interval = period / permits, tolerance = interval * burst)</p>
+ * <p>버킷은 Caffeine 캐시에 두고 idleTimeout 동안 요청이 없거나 maximumKeys 를 넘으면 제거한다.</p>
+ * <p>(idleTimeout 이 버스트 구간 이상이면 제거되는 버킷은 이미 가득 찬 상태 -> 제거해도 제한이 풀리지 않음)</p>
+ */
+public class RateLimiter {
+    private final Cache<String, AtomicLong> buckets;
+
+    public RateLimiter(long maximumKeys, Duration idleTimeout) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    /**
+     * 요청 1건 허용 여부
+     * @param key 버킷 키
+     * @param intervalNanos 토큰 하나가 채워지는 시간
+     * @param toleranceNanos 버킷 크기만큼의 시간 (interval * burst)
+     * @return 0 -> 허용, 그 외 -> 허용될 때까지 남은 시간 (ns)
+     */
+    public long tryAcquire(String key, long intervalNanos, long toleranceNanos) {
+        AtomicLong tat = buckets.get(key, k -> new AtomicLong(Long.MIN_VALUE));
+        long now = System.nanoTime();
+        while(true) {
+            long current = tat.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long allowAt = next - toleranceNanos;
+            if(allowAt > now) {
+                return allowAt - now;
+            }
+            if(tat.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 현재 버킷 수 (근사값)
+     * @return 버킷 수
+     */
+    public long size() {
+        return buckets.estimatedSize();
+    }
+}
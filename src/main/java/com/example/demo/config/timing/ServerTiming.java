@@ -0,0 +1,84 @@
+package com.example.demo.config.timing;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * <h1>요청별 단계 시간 기록 (Server-Timing 헤더)</h1>
+ * <p>ServerTimingFilter 가 샘플링된 요청에만 기록기를 만들어 현재 스레드에 둔다.</p>
+ * <p>샘플링되지 않은 요청에서 record() 는 아무것도 하지 않는다.</p>
+ * <p>- 같은 단계가 여러 번 기록되면 시간을 합산 (ex. db 조회 2회)</p>
+ */
+public final class ServerTiming {
+    /** Authorization 헤더에서 토큰 추출 */
+    public static final String HEADER = "hdr";
+    /** 토큰 파싱, 서명 검증 */
+    public static final String VERIFY = "verify";
+    /** Authentication 생성 (캐시 조회 포함) */
+    public static final String AUTHENTICATION = "authn";
+    /** DB 조회 */
+    public static final String DB = "db";
+    /** 토큰 생성 (서명) */
+    public static final String SIGN = "sign";
+    /** 필터 체인 전체 */
+    public static final String TOTAL = "total";
+
+    private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Long> phases = new LinkedHashMap<>(8);
+
+    private ServerTiming() {
+    }
+
+    /**
+     * 현재 요청의 단계 시간 기록
+     * @param phase 단계 이름
+     * @param nanos 소요 시간 (ns)
+     */
+    public static void record(String phase, long nanos) {
+        ServerTiming timing = CURRENT.get();
+        if(timing != null) {
+            timing.add(phase, nanos);
+        }
+    }
+
+    /**
+     * 현재 요청이 샘플링되었는지 여부
+     * @return true -> 기록 중
+     */
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    static ServerTiming start() {
+        ServerTiming timing = new ServerTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    void add(String phase, long nanos) {
+        phases.merge(phase, nanos, Long::sum);
+    }
+
+    /**
+     * Server-Timing 헤더 값 (ex. hdr;dur=0.004, verify;dur=0.083)
+     * @return 헤더 값
+     */
+    String toHeaderValue() {
+        StringBuilder value = new StringBuilder(phases.size() * 20);
+        for(Map.Entry<String, Long> phase : phases.entrySet()) {
+            if(!value.isEmpty()) {
+                value.append(", ");
+            }
+            value.append(phase.getKey())
+                    .append(";dur=")
+                    .append(String.format(Locale.ROOT, "%.3f", phase.getValue() / 1_000_000.0));
+        }
+        return value.toString();
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.demo.config.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <h1>Server-Timing 헤더 필터</h1>
+ * <p>sampleRate 비율의 요청에 대해 ServerTiming 기록기를 열고, 응답이 커밋되기 직전에 헤더를 추가한다.</p>
+ * <p>스프링 시큐리티 필터 체인보다 먼저 실행되어 TokenAuthenticationFilter, 컨트롤러의 단계 시간을 모두 포함한다.</p>
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+    static final String HEADER_SERVER_TIMING = "Server-Timing";
+
+    private final double sampleRate;
+
+    public ServerTimingFilter(ServerTimingProperties properties) {
+        this.sampleRate = properties.getSampleRate();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if(sampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ServerTiming timing = ServerTiming.start();
+        ServerTimingResponse timingResponse = new ServerTimingResponse(response, timing, System.nanoTime());
+        try {
+            filterChain.doFilter(request, timingResponse);
+        } finally {
+            timingResponse.writeHeader();
+            ServerTiming.clear();
+        }
+    }
+
+    /**
+     * 응답이 커밋되기 직전(flush, sendError, sendRedirect 등)에 헤더 추가
+     * - 커밋되지 않은 채 필터 체인이 끝나면 필터에서 추가
+     */
+    private static final class ServerTimingResponse extends OnCommittedResponseWrapper {
+        private final ServerTiming timing;
+        private final long startNanos;
+        private boolean written;
+
+        ServerTimingResponse(HttpServletResponse response, ServerTiming timing, long startNanos) {
+            super(response);
+            this.timing = timing;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeHeader();
+        }
+
+        void writeHeader() {
+            HttpServletResponse response = (HttpServletResponse) getResponse();
+            if(written || response.isCommitted()) {
+                return;
+            }
+            written = true;
+            timing.add(ServerTiming.TOTAL, System.nanoTime() - startNanos);
+            response.addHeader(HEADER_SERVER_TIMING, timing.toHeaderValue());
+        }
+    }
+}
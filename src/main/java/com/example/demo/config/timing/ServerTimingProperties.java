@@ -0,0 +1,20 @@
+package com.example.demo.config.timing;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Server-Timing 응답 헤더 설정
+ * - enabled : 사용 여부 (false -> 필터 등록 안 함)
+ * - sampleRate : 헤더를 기록할 요청 비율 (0.0 ~ 1.0)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("server-timing")
+public class ServerTimingProperties {
+    private boolean enabled = false;
+    private double sampleRate = 0.01;
+}
@@ -0,0 +1,35 @@
+package com.example.demo.controller;
+
+import com.example.demo.config.jwt.JsonWebKeySet;
+import com.example.demo.config.jwt.JwtProperties;
+import com.example.demo.config.jwt.SigningKeyRing;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RestController
+public class JwksController {
+
+    private final SigningKeyRing signingKeyRing;
+    private final JwtProperties jwtProperties;
+
+    /**
+     * 서명 공개키 목록 (JWKS)
+     * - 키 목록이 바뀔 때 미리 직렬화한 바이트를 그대로 응답
+     * - If-None-Match 가 ETag 와 같으면 304 (ResponseEntity 의 ETag 로 처리)
+     * - 다른 서비스는 캐시된 JWKS 에 없는 kid 를 만나면 다시 조회
+     * @return JWKS (Cache-Control: public, max-age = jwt.jwks-max-age)
+     */
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> jwks() {
+        JsonWebKeySet jwks = signingKeyRing.jwks();
+        return ResponseEntity.ok()
+                .eTag(jwks.etag())
+                .cacheControl(CacheControl.maxAge(jwtProperties.getJwksMaxAge()).cachePublic())
+                .body(jwks.json());
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.demo.controller;
+
+import com.example.demo.config.jwt.SigningKeyRing;
+import com.example.demo.config.jwt.TokenProvider;
+import com.example.demo.config.oauth.OAuth2SuccessHandler;
+import com.example.demo.dto.RevokeTokenRequest;
+import com.example.demo.dto.RotateKeyRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RestController
+public class TokenAdminController {
+
+    private final TokenProvider tokenProvider;
+    private final SigningKeyRing signingKeyRing;
+
+    /**
+     * 액세스 토큰 폐기 (ROLE_ADMIN)
+     * - token : 토큰 원문 -> 토큰 만료 일시까지 폐기
+     * - tokenId : jti 만 아는 경우 -> 액세스 토큰 최대 유효 기간 동안 폐기
+     * @param request 폐기 요청
+     * @return 204, 유효하지 않은 요청이면 400
+     */
+    @PostMapping("/api/admin/tokens/revoke")
+    public ResponseEntity<Void> revoke(@RequestBody RevokeTokenRequest request) {
+        if(StringUtils.hasText(request.getToken())) {
+            return tokenProvider.revoke(request.getToken())
+                    ? ResponseEntity.noContent().build()
+                    : ResponseEntity.badRequest().build();
+        }
+        if(StringUtils.hasText(request.getTokenId())) {
+            tokenProvider.revokeTokenId(request.getTokenId(), OAuth2SuccessHandler.ACCESS_TOKEN_DURATION);
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.badRequest().build();
+    }
+
+    /**
+     * 서명 키 교체 (ROLE_ADMIN, 재시작 없이)
+     * - 이후 발급되는 토큰은 새 kid 로 서명, 이전 키는 jwt.key-overlap 동안 검증에만 사용
+     * - secret 이 없으면 jwt.algorithm 방식으로 새 키 생성 (ES256 이면 키 쌍, JWKS 에 바로 반영)
+     * @param request 교체 요청 (kid, secret)
+     * @return 204, 이미 있는 kid 이거나 ES256 에 secret 을 보내면 400
+     */
+    @PostMapping("/api/admin/keys/rotate")
+    public ResponseEntity<Void> rotate(@RequestBody RotateKeyRequest request) {
+        try {
+            if(StringUtils.hasText(request.getSecret())) {
+                signingKeyRing.rotate(request.getKid(), request.getSecret());
+            } else {
+                signingKeyRing.rotate(request.getKid());
+            }
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.noContent().build();
+    }
+}
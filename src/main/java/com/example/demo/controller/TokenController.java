@@ -1,26 +1,65 @@
 package com.example.demo.controller;
 
+import com.example.demo.config.jwt.VerifiedToken;
+import com.example.demo.config.ratelimit.RateLimitFilter;
 import com.example.demo.dto.CreateAccessTokenRequest;
 import com.example.demo.dto.CreateAccessTokenResponse;
+import com.example.demo.service.TokenIntrospectionService;
 import com.example.demo.service.TokenService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+
 @RequiredArgsConstructor
 @RestController
 public class TokenController {
 
     private final TokenService tokenService;
+    private final TokenIntrospectionService tokenIntrospectionService;
 
+    /**
+     * 리프레시 토큰으로 액세스 토큰 발급
+     * - 요청 제한 필터가 검증한 리프레시 토큰이 있으면 그대로 사용 (서명 검증 1회)
+     * @param request 리프레시 토큰
+     * @param verifiedToken 요청 제한 필터의 검증 결과 (없으면 null)
+     * @return 201, 액세스 토큰
+     */
     @PostMapping("/api/token")
-    public ResponseEntity<CreateAccessTokenResponse> createNewAccessToken(@RequestBody CreateAccessTokenRequest request) {
-        String newAccessToken = tokenService.createNewAccessToken(request.getRefreshToken());
+    public ResponseEntity<CreateAccessTokenResponse> createNewAccessToken(
+            @RequestBody CreateAccessTokenRequest request,
+            @RequestAttribute(name = RateLimitFilter.VERIFIED_REFRESH_TOKEN, required = false) VerifiedToken verifiedToken) {
+        CreateAccessTokenResponse response = tokenService.exchange(request.getRefreshToken(), verifiedToken);
 
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(new CreateAccessTokenResponse(newAccessToken));
+                .body(response);
+    }
+
+    /**
+     * 토큰 일괄 검사 (ROLE_ADMIN, 다른 사용자의 토큰 정보를 응답하므로)
+     * - 요청 : 토큰 문자열 배열, 응답 : 같은 순서의 검사 결과 배열 (status, sub, id, exp)
+     * - 요청을 읽으면서 묶음 단위로 응답을 씀 (본문 전체를 버퍼링하지 않음)
+     * @return 200, 요청 본문이 JSON 배열이 아니거나 올바른 JSON 이 아니면 400
+     */
+    @PostMapping(value = "/api/token/introspect", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public void introspect(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        try {
+            tokenIntrospectionService.introspect(request.getInputStream(), response.getOutputStream());
+        } catch (IllegalArgumentException | JsonProcessingException e) {
+            if(!response.isCommitted()) {
+                response.reset();
+                response.setStatus(HttpStatus.BAD_REQUEST.value());
+            }
+        }
     }
 }
@@ -1,14 +1,22 @@
 package com.example.demo.controller;
 
+import com.example.demo.config.TokenAuthenticationFilter;
+import com.example.demo.config.jwt.TokenProvider;
+import com.example.demo.config.password.PasswordHashingRejectedException;
 import com.example.demo.dto.SaveUserDTO;
 
 import com.example.demo.service.UserService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.logout.SecurityContextLogoutHandler;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 
@@ -17,6 +25,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 public class UserController {
 
     private final UserService userService;
+    private final TokenProvider tokenProvider;
 
     @GetMapping("/")
     public String home() {
@@ -41,13 +50,40 @@ public class UserController {
         return "redirect:/login";
     }
 
-    @GetMapping("/logout")
+    /**
+     * 로그아웃
+     * - 액세스 토큰으로 인증된 요청이면 토큰 폐기 (만료 전이라도 더 이상 인증되지 않음)
+     * - 상태를 바꾸므로 POST 만 허용 (이미지 태그, 프리페치 등 다른 사이트의 GET 으로 폐기되지 않도록)
+     * @param request 요청
+     * @param response 응답
+     * @return 로그인 화면
+     */
+    @PostMapping("/logout")
     public String logout(HttpServletRequest request, HttpServletResponse response) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        // 인증 정보에는 토큰 원문이 없으므로 요청 헤더에서 읽음 (revoke 가 다시 검증)
+        String token = TokenAuthenticationFilter.getAccessToken(request.getHeader(HttpHeaders.AUTHORIZATION));
+        if(token != null) {
+            tokenProvider.revoke(token);
+        }
+
         new SecurityContextLogoutHandler()
                 .logout(request,
                         response,
-                        SecurityContextHolder.getContext().getAuthentication()
+                        authentication
                 );
         return "redirect:/login";
     }
+
+    /**
+     * 패스워드 해시 스레드 풀 포화 -> 대기하지 않고 503 응답
+     * @param e 거절 예외
+     * @return 503 (Retry-After)
+     */
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<Void> passwordHashingRejected(PasswordHashingRejectedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfter().toSeconds()))
+                .build();
+    }
 }
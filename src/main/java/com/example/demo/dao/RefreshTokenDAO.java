@@ -1,34 +1,65 @@
 package com.example.demo.dao;
 
+import com.example.demo.util.HashUtil;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-@Table(name = "refresh_token")
+import java.time.Instant;
+
+@Table(name = "refresh_token", indexes = {
+        @Index(name = "ux_refresh_token_token_hash", columnList = "token_hash", unique = true),
+        @Index(name = "ix_refresh_token_expires_at", columnList = "expires_at")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Entity
 public class RefreshTokenDAO {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refresh_token_seq")
+    @SequenceGenerator(name = "refresh_token_seq", sequenceName = "refresh_token_seq", allocationSize = 50) // 50개씩 미리 할당 (pooled-lo)
     @Column(name = "id", updatable = false)
     private Long id;
 
     @Column(name = "user_id", nullable = false, unique = true)
     private Long userId;
 
-    @Column(name = "refresh_token", nullable = false)
+    // kid 헤더, jti, ES256 서명이 붙으면 255자를 넘으므로 여유 있게
+    @Column(name = "refresh_token", nullable = false, length = 1024)
     private String refreshToken;
 
-    public RefreshTokenDAO(Long userId, String refreshToken) {
+    // 조회용 리프레시 토큰 SHA-256 해시 (64자 고정, 유니크 인덱스)
+    // 기존 데이터는 RefreshTokenHashBackfill 이 채움 (refresh-token-hash-backfill.enabled=true)
+    @Column(name = "token_hash", length = 64, columnDefinition = "char(64)")
+    private String tokenHash;
+
+    // 리프레시 토큰(JWT) 만료 일시, 지난 행은 RefreshTokenReaper 가 삭제 (인덱스)
+    // 컬럼 추가 전 데이터는 null -> 다음 로그인 때 채워짐
+    @Column(name = "expires_at")
+    private Instant expiresAt;
+
+    public RefreshTokenDAO(Long userId, String refreshToken, Instant expiresAt) {
         this.userId = userId;
         this.refreshToken = refreshToken;
+        this.tokenHash = HashUtil.sha256Hex(refreshToken);
+        this.expiresAt = expiresAt;
     }
 
-    public RefreshTokenDAO update(String newRefreshToken) {
+    public RefreshTokenDAO update(String newRefreshToken, Instant newExpiresAt) {
         this.refreshToken = newRefreshToken;
+        this.tokenHash = HashUtil.sha256Hex(newRefreshToken);
+        this.expiresAt = newExpiresAt;
+        return this;
+    }
+
+    /**
+     * 해시가 없는 기존 데이터의 토큰 해시 채우기
+     * @return 리프레시 토큰 엔티티
+     */
+    public RefreshTokenDAO backfillTokenHash() {
+        this.tokenHash = HashUtil.sha256Hex(refreshToken);
         return this;
     }
 }
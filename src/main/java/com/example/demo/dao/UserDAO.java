@@ -24,7 +24,8 @@ import java.util.List;
 public class UserDAO implements UserDetails {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50) // 50개씩 미리 할당 (pooled-lo)
     @Column(name = "id", updatable = false)
     private Long id;
 
@@ -62,6 +63,16 @@ public class UserDAO implements UserDetails {
         return this;
     }
 
+    /**
+     * 패스워드 변경하기 (해시된 값)
+     * @param password 해시된 패스워드
+     * @return UserDAO
+     */
+    public UserDAO updatePassword(String password) {
+        this.password = password;
+        return this;
+    }
+
     /**
      * 사용자 권한 리스트 반환
      * @return List<SimpleGrantedAuthority>({"role":"user"})
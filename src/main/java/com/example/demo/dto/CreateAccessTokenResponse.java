@@ -1,10 +1,21 @@
 package com.example.demo.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+/**
+ * 액세스 토큰 발급 응답
+ * - refreshToken : 리프레시 토큰 교체(jwt.refresh.rotate) 시에만 포함
+ */
 @AllArgsConstructor
 @Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class CreateAccessTokenResponse {
     private String accessToken;
+    private String refreshToken;
+
+    public CreateAccessTokenResponse(String accessToken) {
+        this(accessToken, null);
+    }
 }
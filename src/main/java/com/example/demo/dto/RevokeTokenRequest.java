@@ -0,0 +1,14 @@
+package com.example.demo.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 액세스 토큰 폐기 요청 (token, tokenId 중 하나)
+ */
+@Getter
+@Setter
+public class RevokeTokenRequest {
+    private String token;
+    private String tokenId;
+}
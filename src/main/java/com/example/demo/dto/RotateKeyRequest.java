@@ -0,0 +1,15 @@
+package com.example.demo.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 서명 키 교체 요청
+ * - secret 이 없으면 서버에서 새 키 생성 (HS256 : 256비트 난수, ES256 : P-256 키 쌍)
+ */
+@Getter
+@Setter
+public class RotateKeyRequest {
+    private String kid;
+    private String secret;
+}
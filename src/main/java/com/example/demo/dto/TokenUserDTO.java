@@ -0,0 +1,14 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 토큰 발급에 필요한 최소한의 사용자 정보 (id, email)
+ */
+@AllArgsConstructor
+@Getter
+public class TokenUserDTO {
+    private Long id;
+    private String email;
+}
@@ -0,0 +1,55 @@
+package com.example.demo.dto;
+
+import com.example.demo.dao.UserDAO;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * <h1>캐시용 사용자 정보 (불변)</h1>
+ * <p>영속성 컨텍스트에 묶인 UserDAO 대신 캐시에 저장한다.</p>
+ * <p>- 폼 로그인 인증에 그대로 사용할 수 있도록 UserDetails 구현 (권한 : UserDAO 와 동일)</p>
+ */
+@Getter
+public final class UserSnapshotDTO implements UserDetails {
+    private static final List<SimpleGrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("user"));
+
+    private final Long id;
+    private final String email;
+    private final String nickname;
+    private final String password;
+
+    private UserSnapshotDTO(Long id, String email, String nickname, String password) {
+        this.id = id;
+        this.email = email;
+        this.nickname = nickname;
+        this.password = password;
+    }
+
+    /**
+     * 엔티티 값 복사
+     * @param user 사용자 엔티티
+     * @return 사용자 정보
+     */
+    public static UserSnapshotDTO from(UserDAO user) {
+        return new UserSnapshotDTO(user.getId(), user.getEmail(), user.getNickname(), user.getPassword());
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return AUTHORITIES;
+    }
+
+    /**
+     * 사용자 아이디 반환 (고유값)
+     * @return email
+     */
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
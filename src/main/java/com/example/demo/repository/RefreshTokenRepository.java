@@ -1,11 +1,161 @@
 package com.example.demo.repository;
 
 import com.example.demo.dao.RefreshTokenDAO;
+import com.example.demo.dto.TokenUserDTO;
+import com.example.demo.util.HashUtil;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshTokenDAO,Long> {
     Optional<RefreshTokenDAO> findByUserId(Long userId);
-    Optional<RefreshTokenDAO> findByRefreshToken(String refreshToken);
+
+    /**
+     * 리프레시 토큰 해시로 조회 (유니크 인덱스 조회)
+     * SELECT * FROM refresh_token WHERE token_hash = #{tokenHash}
+     * @param tokenHash 리프레시 토큰 SHA-256 해시
+     * @return 조회 성공 -> RefreshToken, 조회 실패 -> empty
+     */
+    Optional<RefreshTokenDAO> findByTokenHash(String tokenHash);
+
+    /**
+     * 리프레시 토큰으로 조회
+     * - 토큰 원문 비교 대신 해시로 조회
+     * @param refreshToken 리프레시 토큰
+     * @return 조회 성공 -> RefreshToken, 조회 실패 -> empty
+     */
+    default Optional<RefreshTokenDAO> findByRefreshToken(String refreshToken) {
+        return findByTokenHash(HashUtil.sha256Hex(refreshToken));
+    }
+
+    /**
+     * 리프레시 토큰 해시로 토큰 발급에 필요한 사용자 정보 조회
+     * SELECT u.id, u.email FROM refresh_token r JOIN users u ON u.id = r.user_id WHERE r.token_hash = #{tokenHash}
+     * @param tokenHash 리프레시 토큰 SHA-256 해시
+     * @return 조회 성공 -> 사용자 정보, 조회 실패 -> empty
+     */
+    @Query("select new com.example.demo.dto.TokenUserDTO(u.id, u.email) " +
+            "from RefreshTokenDAO r join UserDAO u on u.id = r.userId " +
+            "where r.tokenHash = :tokenHash")
+    Optional<TokenUserDTO> findTokenUserByTokenHash(@Param("tokenHash") String tokenHash);
+
+    /**
+     * 리프레시 토큰으로 토큰 발급에 필요한 사용자 정보 조회 (쿼리 1회)
+     * @param refreshToken 리프레시 토큰
+     * @return 조회 성공 -> 사용자 정보, 조회 실패 -> empty
+     */
+    default Optional<TokenUserDTO> findTokenUserByRefreshToken(String refreshToken) {
+        return findTokenUserByTokenHash(HashUtil.sha256Hex(refreshToken));
+    }
+
+    /**
+     * 사용자의 리프레시 토큰 저장 (있으면 교체, 없으면 추가)
+     * - user_id 기준 단일 MERGE 문 (조회 후 저장 두 번의 쿼리 대신 한 번)
+     * - 동시 로그인은 saveRefreshToken() 사용 (동시에 INSERT 되어 유니크 제약에 걸리면 다시 MERGE)
+     * @param userId 사용자 ID
+     * @param refreshToken 리프레시 토큰
+     * @param tokenHash 리프레시 토큰 SHA-256 해시
+     * @param expiresAt 리프레시 토큰 만료 일시
+     * @return 반영된 행 수
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "MERGE INTO refresh_token t " +
+            "USING (SELECT CAST(:userId AS BIGINT) AS user_id, CAST(:refreshToken AS VARCHAR) AS refresh_token, " +
+            "CAST(:tokenHash AS CHAR(64)) AS token_hash, CAST(:expiresAt AS TIMESTAMP(6) WITH TIME ZONE) AS expires_at) s " +
+            "ON t.user_id = s.user_id " +
+            "WHEN MATCHED THEN " +
+            "UPDATE SET refresh_token = s.refresh_token, token_hash = s.token_hash, expires_at = s.expires_at " +
+            "WHEN NOT MATCHED THEN " +
+            "INSERT (id, user_id, refresh_token, token_hash, expires_at) " +
+            "VALUES (NEXT VALUE FOR refresh_token_seq, s.user_id, s.refresh_token, s.token_hash, s.expires_at)",
+            nativeQuery = true)
+    int upsert(@Param("userId") Long userId,
+               @Param("refreshToken") String refreshToken,
+               @Param("tokenHash") String tokenHash,
+               @Param("expiresAt") Instant expiresAt);
+
+    /**
+     * 사용자의 리프레시 토큰 저장 (있으면 교체, 없으면 추가)
+     * - 동시 로그인에도 한 행만 남음 (유니크 제약 위반 시 한 번 더 MERGE)
+     * @param userId 사용자 ID
+     * @param refreshToken 리프레시 토큰
+     * @param expiresAt 리프레시 토큰 만료 일시
+     */
+    default void saveRefreshToken(Long userId, String refreshToken, Instant expiresAt) {
+        String tokenHash = HashUtil.sha256Hex(refreshToken);
+        try {
+            upsert(userId, refreshToken, tokenHash, expiresAt);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 사용자의 다른 요청이 먼저 INSERT -> 다시 MERGE 하면 UPDATE
+            upsert(userId, refreshToken, tokenHash, expiresAt);
+        }
+    }
+
+    /**
+     * 리프레시 토큰 교체 (이전 토큰 해시가 일치하는 행만)
+     * UPDATE refresh_token SET refresh_token = #{newRefreshToken}, token_hash = #{newTokenHash}, expires_at = #{expiresAt}
+     * WHERE token_hash = #{tokenHash}
+     * @param tokenHash 이전 리프레시 토큰 SHA-256 해시
+     * @param newRefreshToken 새 리프레시 토큰
+     * @param newTokenHash 새 리프레시 토큰 SHA-256 해시
+     * @param expiresAt 새 리프레시 토큰 만료 일시
+     * @return 반영된 행 수 (0 -> 이미 교체되었거나 없는 토큰)
+     */
+    @Modifying
+    @Transactional
+    @Query("update RefreshTokenDAO r set r.refreshToken = :newRefreshToken, r.tokenHash = :newTokenHash, " +
+            "r.expiresAt = :expiresAt where r.tokenHash = :tokenHash")
+    int replace(@Param("tokenHash") String tokenHash,
+                @Param("newRefreshToken") String newRefreshToken,
+                @Param("newTokenHash") String newTokenHash,
+                @Param("expiresAt") Instant expiresAt);
+
+    /**
+     * 리프레시 토큰 교체
+     * @param refreshToken 이전 리프레시 토큰
+     * @param newRefreshToken 새 리프레시 토큰
+     * @param expiresAt 새 리프레시 토큰 만료 일시
+     * @return true -> 교체됨
+     */
+    default boolean replaceRefreshToken(String refreshToken, String newRefreshToken, Instant expiresAt) {
+        return replace(HashUtil.sha256Hex(refreshToken), newRefreshToken, HashUtil.sha256Hex(newRefreshToken),
+                expiresAt) == 1;
+    }
+
+    /**
+     * 만료된 리프레시 토큰 ID 조회 (expires_at 인덱스 범위 조회)
+     * SELECT id FROM refresh_token WHERE expires_at < #{now} ORDER BY expires_at LIMIT #{size}
+     * @param now 기준 일시
+     * @param pageable 조회 크기
+     * @return 리프레시 토큰 ID 목록
+     */
+    @Query("select r.id from RefreshTokenDAO r where r.expiresAt < :now order by r.expiresAt")
+    List<Long> findExpiredIds(@Param("now") Instant now, Pageable pageable);
+
+    /**
+     * ID 목록으로 삭제
+     * DELETE FROM refresh_token WHERE id IN (#{ids})
+     * @param ids 리프레시 토큰 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query("delete from RefreshTokenDAO r where r.id in :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+
+    /**
+     * 토큰 해시가 없는 기존 데이터 조회 (백필용)
+     * @param pageable 조회 크기
+     * @return 리프레시 토큰 목록
+     */
+    List<RefreshTokenDAO> findByTokenHashIsNull(Pageable pageable);
 }
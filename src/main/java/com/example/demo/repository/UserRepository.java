@@ -1,7 +1,12 @@
 package com.example.demo.repository;
 
 import com.example.demo.dao.UserDAO;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -13,4 +18,50 @@ public interface UserRepository extends JpaRepository<UserDAO, Long> {
      * @return 조회 성공 -> User, 조회 실패 -> null
      */
     Optional<UserDAO> findByEmail(String email);
+
+    /**
+     * 사용자 ID로 PK 조회
+     * SELECT id FROM users WHERE email = #{email}
+     * @param email 사용자 ID
+     * @return 조회 성공 -> PK, 조회 실패 -> empty
+     */
+    @Query("select u.id from UserDAO u where u.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
+
+    /**
+     * OAuth2 사용자 저장 (없으면 추가, 닉네임이 바뀐 경우에만 수정)
+     * - email 기준 단일 MERGE 문
+     * - 동시 로그인은 saveOAuthUser() 사용 (동시에 INSERT 되어 유니크 제약에 걸리면 다시 MERGE)
+     * @param email 사용자 ID
+     * @param nickname 닉네임
+     * @return 반영된 행 수 (변경 없음 -> 0)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "MERGE INTO users u " +
+            "USING (SELECT CAST(:email AS VARCHAR(255)) AS email, CAST(:nickname AS VARCHAR(255)) AS nickname) s " +
+            "ON u.email = s.email " +
+            "WHEN MATCHED AND u.nickname IS DISTINCT FROM s.nickname THEN " +
+            "UPDATE SET nickname = s.nickname, updated_dt = LOCALTIMESTAMP " +
+            "WHEN NOT MATCHED THEN " +
+            "INSERT (id, email, nickname, created_dt, updated_dt) " +
+            "VALUES (NEXT VALUE FOR users_seq, s.email, s.nickname, LOCALTIMESTAMP, LOCALTIMESTAMP)",
+            nativeQuery = true)
+    int upsertOAuthUser(@Param("email") String email, @Param("nickname") String nickname);
+
+    /**
+     * OAuth2 사용자 저장 (없으면 추가, 닉네임이 바뀐 경우에만 수정)
+     * - 동시 로그인에도 한 행만 남음 (유니크 제약 위반 시 한 번 더 MERGE)
+     * @param email 사용자 ID
+     * @param nickname 닉네임
+     * @return 반영된 행 수 (변경 없음 -> 0)
+     */
+    default int saveOAuthUser(String email, String nickname) {
+        try {
+            return upsertOAuthUser(email, nickname);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 사용자의 다른 요청이 먼저 INSERT -> 다시 MERGE 하면 변경 없음 또는 UPDATE
+            return upsertOAuthUser(email, nickname);
+        }
+    }
 }
@@ -0,0 +1,56 @@
+package com.example.demo.service;
+
+import com.example.demo.dao.RefreshTokenDAO;
+import com.example.demo.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * <h1>리프레시 토큰 해시 백필</h1>
+ * <p>token_hash 컬럼이 추가되기 전에 저장된 데이터의 해시를 채운다.</p>
+ * <p>애플리케이션 시작 시 CHUNK_SIZE 건씩 나누어 트랜잭션 단위로 처리한다.</p>
+ * <p>영구 스키마를 마이그레이션할 때만 켠다. (refresh-token-hash-backfill.enabled=true)</p>
+ * <p>- 인메모리 H2 + Hibernate DDL 에서는 해시가 없는 행이 생기지 않으므로 기본값은 꺼짐</p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(prefix = "refresh-token-hash-backfill", name = "enabled", havingValue = "true")
+public class RefreshTokenHashBackfill implements ApplicationRunner {
+    private final static int CHUNK_SIZE = 500;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long total = 0;
+        int updated;
+        do {
+            updated = transactionTemplate.execute(status -> backfillChunk());
+            total += updated;
+        } while (updated == CHUNK_SIZE);
+
+        if(total > 0) {
+            log.info("Backfilled token_hash for {} refresh tokens", total);
+        }
+    }
+
+    private int backfillChunk() {
+        List<RefreshTokenDAO> refreshTokens = refreshTokenRepository.findByTokenHashIsNull(PageRequest.of(0, CHUNK_SIZE));
+        if(refreshTokens.isEmpty()) {
+            return 0;
+        }
+        refreshTokens.forEach(RefreshTokenDAO::backfillTokenHash);
+        refreshTokenRepository.saveAll(refreshTokens);
+        return refreshTokens.size();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.demo.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR 이벤트 : 리프레시 토큰 조회 (DB)
+ * - 기본 임계값 10 ms 이상인 경우만 기록, 호출 위치 확인을 위해 스택 트레이스 포함
+ */
+@Name("com.example.demo.RefreshTokenLookup")
+@Label("Refresh Token Lookup")
+@Category({"LoginDemo", "Database"})
+@Description("Refresh token looked up by RefreshTokenService")
+@Threshold("10 ms")
+class RefreshTokenLookupEvent extends jdk.jfr.Event {
+    @Label("Query")
+    String query;
+
+    @Label("Found")
+    boolean found;
+}
@@ -0,0 +1,94 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * <h1>만료된 리프레시 토큰 삭제</h1>
+ * <p>expires_at 이 지난 행을 chunkSize 건씩 나누어 삭제한다.</p>
+ * <p>- 청크마다 별도 트랜잭션 (expires_at 인덱스로 ID 조회 -> ID 로 삭제), 청크 사이에 pause 만큼 대기</p>
+ * <p>- 한 번에 maxChunks 청크까지만 처리하고 남은 행은 다음 실행에서 삭제</p>
+ * <p>지표</p>
+ * <p>- refresh.token.reaped : 삭제한 행 수</p>
+ * <p>- refresh.token.reaper : 실행 시간</p>
+ */
+@Slf4j
+@Component
+public class RefreshTokenReaper {
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RefreshTokenReaperProperties properties;
+    private final Counter reaped;
+    private final Timer runTimer;
+
+    public RefreshTokenReaper(RefreshTokenRepository refreshTokenRepository, TransactionTemplate transactionTemplate,
+                              RefreshTokenReaperProperties properties, MeterRegistry meterRegistry) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.reaped = Counter.builder("refresh.token.reaped")
+                .description("Expired refresh tokens deleted by the reaper")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("refresh.token.reaper")
+                .description("Time spent deleting expired refresh tokens")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${refresh-token-reaper.interval:1h}",
+            initialDelayString = "${refresh-token-reaper.interval:1h}")
+    public void reap() {
+        if(!properties.isEnabled()) {
+            return;
+        }
+        long total = runTimer.record(() -> reapExpired(Instant.now()));
+        if(total > 0) {
+            log.info("Deleted {} expired refresh tokens", total);
+        }
+    }
+
+    /**
+     * 기준 일시 이전에 만료된 리프레시 토큰 삭제
+     * @param now 기준 일시
+     * @return 삭제한 행 수
+     */
+    long reapExpired(Instant now) {
+        long total = 0;
+        for(int chunk = 0; chunk < properties.getMaxChunks(); chunk++) {
+            int deleted = transactionTemplate.execute(status -> deleteChunk(now));
+            total += deleted;
+            reaped.increment(deleted);
+            if(deleted < properties.getChunkSize()) {
+                break;
+            }
+            if(!pause()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private int deleteChunk(Instant now) {
+        List<Long> ids = refreshTokenRepository.findExpiredIds(now, PageRequest.of(0, properties.getChunkSize()));
+        return ids.isEmpty() ? 0 : refreshTokenRepository.deleteByIds(ids);
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getPause().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
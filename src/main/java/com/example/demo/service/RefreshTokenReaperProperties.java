@@ -0,0 +1,28 @@
+package com.example.demo.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 만료된 리프레시 토큰 삭제 설정
+ * - enabled : 사용 여부
+ * - interval : 실행 주기 (이전 실행이 끝난 뒤부터)
+ * - chunkSize : 트랜잭션 하나에서 삭제하는 최대 행 수
+ * - pause : 청크 사이 대기 시간 (잠금을 오래 잡지 않고 /api/token 지연을 늘리지 않도록)
+ * - maxChunks : 한 번 실행에서 처리하는 최대 청크 수 (남은 행은 다음 실행)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("refresh-token-reaper")
+public class RefreshTokenReaperProperties {
+    private boolean enabled = true;
+    private Duration interval = Duration.ofHours(1);
+    private int chunkSize = 500;
+    private Duration pause = Duration.ofMillis(100);
+    private int maxChunks = 200;
+}
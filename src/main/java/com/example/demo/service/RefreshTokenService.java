@@ -1,17 +1,76 @@
 package com.example.demo.service;
 
+import com.example.demo.config.timing.ServerTiming;
 import com.example.demo.dao.RefreshTokenDAO;
+import com.example.demo.dto.TokenUserDTO;
 import com.example.demo.repository.RefreshTokenRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.Optional;
+
 @RequiredArgsConstructor
 @Service
 public class RefreshTokenService {
     private final RefreshTokenRepository refreshTokenRepository;
 
     public RefreshTokenDAO findByRefreshToken(String refreshToken) {
-        return refreshTokenRepository.findByRefreshToken(refreshToken)
-                .orElseThrow(() -> new IllegalArgumentException("Unexpected token"));
+        RefreshTokenLookupEvent event = new RefreshTokenLookupEvent();
+        event.begin();
+        long start = System.nanoTime();
+        Optional<RefreshTokenDAO> found = refreshTokenRepository.findByRefreshToken(refreshToken);
+        commit(event, start, "findByRefreshToken", found.isPresent());
+
+        return found.orElseThrow(() -> new IllegalArgumentException("Unexpected token"));
+    }
+
+    /**
+     * 리프레시 토큰 소유자의 토큰 발급용 정보 조회 (refresh_token, users 조인 1회)
+     * @param refreshToken 리프레시 토큰
+     * @return 사용자 정보 (id, email)
+     */
+    public TokenUserDTO findTokenUser(String refreshToken) {
+        RefreshTokenLookupEvent event = new RefreshTokenLookupEvent();
+        event.begin();
+        long start = System.nanoTime();
+        Optional<TokenUserDTO> found = refreshTokenRepository.findTokenUserByRefreshToken(refreshToken);
+        commit(event, start, "findTokenUser", found.isPresent());
+
+        return found.orElseThrow(() -> new IllegalArgumentException("Unexpected token"));
+    }
+
+    /**
+     * 리프레시 토큰 교체
+     * - 이전 토큰 해시가 일치하는 행만 변경 (다른 요청/인스턴스가 먼저 교체했으면 실패)
+     * @param refreshToken 이전 리프레시 토큰
+     * @param newRefreshToken 새 리프레시 토큰
+     * @param expiresAt 새 리프레시 토큰 만료 일시
+     * @throws IllegalArgumentException 이미 교체되었거나 없는 토큰
+     */
+    public void rotate(String refreshToken, String newRefreshToken, Instant expiresAt) {
+        RefreshTokenLookupEvent event = new RefreshTokenLookupEvent();
+        event.begin();
+        long start = System.nanoTime();
+        boolean replaced = refreshTokenRepository.replaceRefreshToken(refreshToken, newRefreshToken, expiresAt);
+        commit(event, start, "rotate", replaced);
+
+        if(!replaced) {
+            throw new IllegalArgumentException("Unexpected token");
+        }
+    }
+
+    /**
+     * 조회 시간이 임계값 이상이면 JFR 이벤트 기록
+     * - Server-Timing : 조회 시간을 db 로 기록
+     */
+    private static void commit(RefreshTokenLookupEvent event, long startNanos, String query, boolean found) {
+        ServerTiming.record(ServerTiming.DB, System.nanoTime() - startNanos);
+        event.end();
+        if(event.shouldCommit()) {
+            event.query = query;
+            event.found = found;
+            event.commit();
+        }
     }
 }
@@ -0,0 +1,139 @@
+package com.example.demo.service;
+
+import com.example.demo.config.jwt.TokenProvider;
+import com.example.demo.config.jwt.TokenRejectReason;
+import com.example.demo.config.jwt.VerifiedToken;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * <h1>토큰 일괄 검사 (introspection)</h1>
+ * <p>요청 : ["토큰", "토큰", ...]</p>
+ * <p>응답 : [{"status":"active","sub":..,"id":..,"exp":..}, {"status":"expired"}, ...] (요청과 같은 순서)</p>
+ * <p>- status : active, expired, invalid, revoked</p>
+ * <p>요청/응답 모두 Jackson 스트리밍으로 CHUNK_SIZE 개씩 읽고 검증 후 바로 쓴다.</p>
+ * <p>(전체 배열을 메모리에 올리지 않음, 묶음 안에서는 CPU 코어 수만큼 병렬 검증)</p>
+ * <p>지표 : auth.token.introspect.tokens (요청당 토큰 수)</p>
+ */
+@Service
+public class TokenIntrospectionService {
+    static final int CHUNK_SIZE = 256;
+    // 이보다 작은 묶음은 병렬 처리 비용이 검증 비용보다 큼
+    private static final int PARALLEL_THRESHOLD = 16;
+
+    private final TokenProvider tokenProvider;
+    private final JsonFactory jsonFactory;
+    private final DistributionSummary batchSize;
+
+    public TokenIntrospectionService(TokenProvider tokenProvider, ObjectMapper objectMapper,
+                                     MeterRegistry meterRegistry) {
+        this.tokenProvider = tokenProvider;
+        this.jsonFactory = objectMapper.getFactory();
+        this.batchSize = DistributionSummary.builder("auth.token.introspect.tokens")
+                .description("Tokens per introspection request")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 토큰 배열을 읽어 검사 결과 배열을 쓴다.
+     * - 첫 토큰이 배열이 아니면 아무것도 쓰지 않고 예외 (호출 측에서 400 응답)
+     * - JSON 문법 오류, 잘린 본문 -> JsonProcessingException (첫 묶음을 쓰기 전이면 호출 측에서 400 응답)
+     * @param in 요청 본문
+     * @param out 응답 본문 (묶음마다 flush)
+     * @throws IllegalArgumentException 요청 본문이 JSON 배열이 아님
+     * @throws com.fasterxml.jackson.core.JsonProcessingException 요청 본문이 올바른 JSON 이 아님
+     */
+    public void introspect(InputStream in, OutputStream out) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            if(parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Unexpected request body: a JSON array of tokens is required");
+            }
+
+            int total = 0;
+            try (JsonGenerator generator = jsonFactory.createGenerator(out, JsonEncoding.UTF8)) {
+                // 중간에 실패하면 닫는 괄호를 쓰지 않음 -> 잘린 응답이 정상 JSON 으로 보이지 않게
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+                // close() 가 응답 스트림을 닫거나 flush 하지 않음 -> 첫 묶음 전에 실패하면 호출 측에서 400 응답 가능
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+                generator.writeStartArray();
+                List<String> chunk = new ArrayList<>(CHUNK_SIZE);
+                JsonToken token;
+                while((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if(token == null) {
+                        throw new IllegalArgumentException("Unexpected end of request body");
+                    }
+                    // 문자열이 아닌 원소는 invalid
+                    chunk.add(token == JsonToken.VALUE_STRING ? parser.getText() : null);
+                    parser.skipChildren();
+                    if(chunk.size() == CHUNK_SIZE) {
+                        writeChunk(generator, out, chunk);
+                        total += chunk.size();
+                        chunk.clear();
+                    }
+                }
+                writeChunk(generator, out, chunk);
+                total += chunk.size();
+                generator.writeEndArray();
+            }
+            batchSize.record(total);
+        }
+    }
+
+    private void writeChunk(JsonGenerator generator, OutputStream out, List<String> chunk) throws IOException {
+        Stream<String> tokens = chunk.size() < PARALLEL_THRESHOLD ? chunk.stream() : chunk.parallelStream();
+        // toList() 는 원래 순서를 유지
+        List<Introspection> results = tokens.map(this::introspect).toList();
+        for(Introspection result : results) {
+            generator.writeStartObject();
+            generator.writeStringField("status", result.status());
+            if(result.verifiedToken() != null) {
+                VerifiedToken verifiedToken = result.verifiedToken();
+                generator.writeStringField("sub", verifiedToken.getSubject());
+                if(verifiedToken.getUserId() != null) {
+                    generator.writeNumberField("id", verifiedToken.getUserId());
+                }
+                if(verifiedToken.getExpiration() != null) {
+                    generator.writeNumberField("exp", verifiedToken.getExpiration().getTime() / 1000);
+                }
+            }
+            generator.writeEndObject();
+        }
+        generator.flush();
+        out.flush();
+    }
+
+    private Introspection introspect(String token) {
+        VerifiedToken verifiedToken = tokenProvider.verify(token);
+        if(!verifiedToken.isValid()) {
+            return new Introspection(verifiedToken.getRejectReason() == TokenRejectReason.EXPIRED
+                    ? "expired" : "invalid", null);
+        }
+        if(tokenProvider.isRevoked(verifiedToken)) {
+            return new Introspection("revoked", null);
+        }
+        return new Introspection("active", verifiedToken);
+    }
+
+    /**
+     * 토큰 하나의 검사 결과
+     * @param status active, expired, invalid, revoked
+     * @param verifiedToken active 인 경우만
+     */
+    private record Introspection(String status, VerifiedToken verifiedToken) {
+    }
+}
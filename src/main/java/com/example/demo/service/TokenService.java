@@ -1,28 +1,163 @@
 package com.example.demo.service;
 
+import com.example.demo.config.jwt.JwtProperties;
 import com.example.demo.config.jwt.TokenProvider;
-import com.example.demo.dao.UserDAO;
-import lombok.RequiredArgsConstructor;
+import com.example.demo.config.jwt.TokenRejectReason;
+import com.example.demo.config.jwt.VerifiedToken;
+import com.example.demo.config.oauth.OAuth2SuccessHandler;
+import com.example.demo.dto.CreateAccessTokenResponse;
+import com.example.demo.dto.TokenUserDTO;
+import com.example.demo.util.HashUtil;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
-@RequiredArgsConstructor
+/**
+ * <h1>리프레시 토큰 교환</h1>
+ * <p>같은 리프레시 토큰의 동시 요청은 한 번만 처리하고 결과를 나눠 갖는다. (single-flight)</p>
+ * <p>- 먼저 온 요청 : 검증 -> 사용자 조회 -> (교체) -> 서명, 결과를 future 로 공유</p>
+ * <p>- 처리 중에 온 요청 : 같은 future 를 기다림 (DB 조회, 서명 없음)</p>
+ * <p>- 처리가 끝난 뒤 graceWindow 동안 온 요청도 같은 결과 (토큰 쌍이 하나로 일관됨)</p>
+ * <p>jwt.refresh.rotate 설정 시 교환할 때마다 리프레시 토큰도 새로 발급 (이전 토큰은 graceWindow 이후 사용 불가)</p>
+ * <p>실패한 결과는 공유하지 않고 바로 제거한다. (Error 포함, 기다리던 요청도 같은 예외)</p>
+ * <p>기다리는 요청은 waitTimeout 까지만 기다린다.</p>
+ */
 @Service
 public class TokenService {
     private final TokenProvider tokenProvider;
     private final RefreshTokenService refreshTokenService;
-    private final UserService userService;
+    private final MeterRegistry meterRegistry;
+    private final boolean rotate;
+    private final boolean grace;
+    private final long waitTimeoutNanos;
+    // 리프레시 토큰의 SHA-256 -> 교환 결과 (처리 중이거나 graceWindow 안, 원문 토큰은 보관하지 않음)
+    private final AsyncCache<String, CreateAccessTokenResponse> exchanges;
 
+    public TokenService(TokenProvider tokenProvider, RefreshTokenService refreshTokenService,
+                        JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+        this.tokenProvider = tokenProvider;
+        this.refreshTokenService = refreshTokenService;
+        this.meterRegistry = meterRegistry;
+
+        JwtProperties.Refresh refresh = jwtProperties.getRefresh();
+        this.rotate = refresh.isRotate();
+        this.grace = refresh.getGraceWindow().compareTo(Duration.ZERO) > 0;
+        this.waitTimeoutNanos = refresh.getWaitTimeout().toNanos();
+        // 비동기 캐시의 만료는 future 가 완료된 시점부터 계산 (처리 중인 엔트리는 만료되지 않음)
+        this.exchanges = Caffeine.newBuilder()
+                .maximumSize(refresh.getMaximumSize())
+                .expireAfterWrite(grace ? refresh.getGraceWindow() : Duration.ofMillis(1))
+                .buildAsync();
+    }
+
+    /**
+     * 리프레시 토큰으로 새 액세스 토큰 발급
+     * @param refreshToken 리프레시 토큰
+     * @return 액세스 토큰
+     */
     public String createNewAccessToken(String refreshToken) {
-        // 토큰 유효성 검사에 실패하면 예외발생
-        if(!tokenProvider.validToken(refreshToken)) {
-            throw new IllegalArgumentException("Unexpected token");
+        return exchange(refreshToken).getAccessToken();
+    }
+
+    /**
+     * 리프레시 토큰 교환 (같은 토큰의 동시 요청은 한 번만 처리)
+     * - 지표 : auth.token.refresh (outcome = success / failure / coalesced)
+     * @param refreshToken 리프레시 토큰
+     * @return 액세스 토큰 (교체 설정 시 새 리프레시 토큰 포함)
+     */
+    public CreateAccessTokenResponse exchange(String refreshToken) {
+        return exchange(refreshToken, null);
+    }
+
+    /**
+     * 리프레시 토큰 교환 (이미 검증한 결과 재사용)
+     * - 요청 제한 필터가 검증한 결과가 있으면 서명을 다시 검증하지 않음
+     * @param refreshToken 리프레시 토큰
+     * @param verifiedToken 같은 토큰의 검증 결과 (없거나 다른 토큰이면 다시 검증)
+     * @return 액세스 토큰 (교체 설정 시 새 리프레시 토큰 포함)
+     */
+    public CreateAccessTokenResponse exchange(String refreshToken, VerifiedToken verifiedToken) {
+        if(refreshToken == null) {
+            throw new IllegalArgumentException("Unexpected token: " + TokenRejectReason.MISSING);
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture<CreateAccessTokenResponse> flight = new CompletableFuture<>();
+        String key = HashUtil.sha256Hex(refreshToken);
+        CompletableFuture<CreateAccessTokenResponse> existing = exchanges.asMap().putIfAbsent(key, flight);
+        if(existing != null) {
+            String outcome = "failure";
+            try {
+                CreateAccessTokenResponse response = existing.get(waitTimeoutNanos, TimeUnit.NANOSECONDS);
+                outcome = "coalesced";
+                return response;
+            } catch (ExecutionException e) {
+                if(e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if(e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw new IllegalStateException(e.getCause());
+            } catch (TimeoutException e) {
+                throw new IllegalStateException("Unexpected token exchange timeout", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } finally {
+                sample.stop(meterRegistry.timer("auth.token.refresh", "outcome", outcome));
+            }
+        }
+
+        // 요청 스레드에서 직접 처리 (트랜잭션, Server-Timing 등 스레드 문맥 유지)
+        String outcome = "failure";
+        try {
+            CreateAccessTokenResponse response = doExchange(refreshToken, verifiedToken);
+            flight.complete(response);
+            outcome = "success";
+            return response;
+        } catch (Throwable e) {
+            // Error 도 완료 처리 (기다리는 요청이 멈추지 않도록)
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            if(!grace || !"success".equals(outcome)) {
+                exchanges.asMap().remove(key, flight);
+            }
+            sample.stop(meterRegistry.timer("auth.token.refresh", "outcome", outcome));
+        }
+    }
+
+    private CreateAccessTokenResponse doExchange(String refreshToken, VerifiedToken verified) {
+        // 토큰 유효성 검사에 실패하면 예외발생 (실패 사유 포함)
+        VerifiedToken verifiedToken = verified != null && refreshToken.equals(verified.getToken())
+                ? verified
+                : tokenProvider.verify(refreshToken);
+        if(!verifiedToken.isValid()) {
+            throw new IllegalArgumentException("Unexpected token: " + verifiedToken.getRejectReason());
         }
 
-        Long userId = refreshTokenService.findByRefreshToken(refreshToken).getUserId();
-        UserDAO user = userService.findById(userId);
+        // 리프레시 토큰 -> 사용자 id, email 을 한 번의 조인 쿼리로 조회
+        TokenUserDTO user = refreshTokenService.findTokenUser(refreshToken);
+
+        String newRefreshToken = null;
+        if(rotate) {
+            Instant expiresAt = Instant.now().plus(OAuth2SuccessHandler.REFRESH_TOKEN_DURATION);
+            newRefreshToken = tokenProvider.generateToken(user.getId(), user.getEmail(),
+                    OAuth2SuccessHandler.REFRESH_TOKEN_DURATION);
+            refreshTokenService.rotate(refreshToken, newRefreshToken, expiresAt);
+        }
 
-        return tokenProvider.generateToken(user, Duration.ofHours(2));
+        String accessToken = tokenProvider.generateToken(user.getId(), user.getEmail(), Duration.ofHours(2));
+        return new CreateAccessTokenResponse(accessToken, newRefreshToken);
     }
 }
@@ -1,27 +1,51 @@
 package com.example.demo.service;
 
+import com.example.demo.config.cache.UserCache;
 import com.example.demo.dao.UserDAO;
+import com.example.demo.dto.UserSnapshotDTO;
 import com.example.demo.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
 @Service
-public class UserDetailService implements UserDetailsService {
+public class UserDetailService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final UserCache userCache;
 
     /**
-     * 사용자 ID로 사용자 정보 불러오기
+     * 사용자 ID로 사용자 정보 불러오기 (UserCache)
      * @param email 사용자 ID
      * @return User 사용자 정보
      * @throws UsernameNotFoundException 사용자 ID 값이 없는 경우 예외처리
      */
     @Override
-    public UserDAO loadUserByUsername(String email) throws UsernameNotFoundException {
-        return userRepository.findByEmail(email)
-                .orElseThrow(()->new IllegalArgumentException(email));
+    public UserSnapshotDTO loadUserByUsername(String email) throws UsernameNotFoundException {
+        return userCache.findByEmail(email)
+                .orElseThrow(()->new UsernameNotFoundException(email));
+    }
+
+    /**
+     * 패스워드 다시 해시해서 저장
+     * - 로그인 성공 시 저장된 해시가 BCrypt 가 아니거나 strength 가 하한보다 낮으면 DaoAuthenticationProvider 가 호출
+     * - 변경 후 사용자 캐시 제거
+     * @param user 인증된 사용자
+     * @param newPassword 새로 해시한 패스워드
+     * @return 패스워드가 변경된 사용자 정보
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        UserDAO userDAO = userRepository.findByEmail(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException(user.getUsername()));
+        userDAO.updatePassword(newPassword);
+        userCache.evict(userDAO.getId(), userDAO.getEmail());
+        return UserSnapshotDTO.from(userDAO);
     }
 }
@@ -1,10 +1,12 @@
 package com.example.demo.service;
 
+import com.example.demo.config.cache.UserCache;
+import com.example.demo.config.password.PasswordHashingExecutor;
 import com.example.demo.dto.SaveUserDTO;
 import com.example.demo.dao.UserDAO;
+import com.example.demo.dto.UserSnapshotDTO;
 import com.example.demo.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @RequiredArgsConstructor
@@ -12,24 +14,37 @@ import org.springframework.stereotype.Service;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final UserCache userCache;
 
     public Long saveUser(SaveUserDTO dto) {
-        BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder();
-
+        // BCrypt 해시는 전용 스레드 풀에서 실행 (포화 상태면 PasswordHashingRejectedException)
         UserDAO user = UserDAO.builder()
                 .email(dto.getEmail())
-                .password(bCryptPasswordEncoder.encode(dto.getPassword()))
+                .password(passwordHashingExecutor.encode(dto.getPassword()))
                 .build();
-        return userRepository.save(user).getId();
+        Long userId = userRepository.save(user).getId();
+        userCache.evict(userId, dto.getEmail());
+        return userId;
     }
 
-    public UserDAO findById(Long userId) {
-        return userRepository.findById(userId)
+    /**
+     * 사용자 ID로 조회 (UserCache)
+     * @param userId 사용자 ID
+     * @return 사용자 정보
+     */
+    public UserSnapshotDTO findById(Long userId) {
+        return userCache.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("Unexpected User"));
     }
 
-    public UserDAO findByEmail(String email) {
-        return userRepository.findByEmail(email)
+    /**
+     * 사용자 이메일로 조회 (UserCache)
+     * @param email 사용자 이메일
+     * @return 사용자 정보
+     */
+    public UserSnapshotDTO findByEmail(String email) {
+        return userCache.findByEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("Unexpected User"));
     }
 }
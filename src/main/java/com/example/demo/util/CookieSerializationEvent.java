@@ -0,0 +1,32 @@
+package com.example.demo.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR 이벤트 : 쿠키 값 (역)직렬화 (Jackson + Base64)
+ * - 기본 임계값 5 ms 이상인 경우만 기록 (JFC 설정 파일로 변경 가능)
+ */
+@Name("com.example.demo.CookieSerialization")
+@Label("Cookie Serialization")
+@Category({"LoginDemo", "Cookie"})
+@Description("Object (de)serialized to a cookie value by CookieUtil")
+@Threshold("5 ms")
+@StackTrace(false)
+class CookieSerializationEvent extends jdk.jfr.Event {
+    @Label("Operation")
+    @Description("serialize or deserialize")
+    String operation;
+
+    @Label("Type")
+    String type;
+
+    @Label("Value Length")
+    @DataAmount
+    int valueLength;
+}
@@ -5,13 +5,16 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.jackson2.SecurityJackson2Modules;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 
 public class CookieUtil {
 
-    private final static ObjectMapper objectMapper = new ObjectMapper();
+    // OAuth2AuthorizationRequest 등 스프링 시큐리티 타입을 (역)직렬화하기 위한 모듈 등록
+    private final static ObjectMapper objectMapper = new ObjectMapper()
+            .registerModules(SecurityJackson2Modules.getModules(CookieUtil.class.getClassLoader()));
 
     /**
      * 쿠키 추가
@@ -55,10 +58,14 @@ public class CookieUtil {
      * @return 직렬화 값
      */
     public static String serialize(Object obj) {
+        CookieSerializationEvent event = new CookieSerializationEvent();
+        event.begin();
         try {
             String json = objectMapper.writeValueAsString(obj);
             byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
-            return Base64.getUrlEncoder().encodeToString(bytes);
+            String value = Base64.getUrlEncoder().encodeToString(bytes);
+            commit(event, "serialize", obj.getClass(), value.length());
+            return value;
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
@@ -71,12 +78,29 @@ public class CookieUtil {
      * @return 역직렬화 값
      */
     public static <T> T deserialize(Cookie cookie, Class<T> cls) {
+        CookieSerializationEvent event = new CookieSerializationEvent();
+        event.begin();
         try {
             byte[] bytes = Base64.getUrlDecoder().decode(cookie.getValue());
-            String json = new String(bytes);
-            return objectMapper.readValue(json, cls);
+            String json = new String(bytes, StandardCharsets.UTF_8);
+            T value = objectMapper.readValue(json, cls);
+            commit(event, "deserialize", cls, cookie.getValue().length());
+            return value;
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
     }
+
+    /**
+     * 처리 시간이 임계값 이상이면 JFR 이벤트 기록
+     */
+    private static void commit(CookieSerializationEvent event, String operation, Class<?> type, int valueLength) {
+        event.end();
+        if(event.shouldCommit()) {
+            event.operation = operation;
+            event.type = type.getName();
+            event.valueLength = valueLength;
+            event.commit();
+        }
+    }
 }
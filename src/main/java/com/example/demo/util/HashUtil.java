@@ -0,0 +1,34 @@
+package com.example.demo.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public class HashUtil {
+
+    private final static HexFormat HEX = HexFormat.of();
+
+    /**
+     * SHA-256 해시 (16진수 문자열, 64자 고정)
+     * @param value 원문
+     * @return 해시 값
+     */
+    public static String sha256Hex(String value) {
+        return HEX.formatHex(sha256(value));
+    }
+
+    /**
+     * SHA-256 해시
+     * @param value 원문
+     * @return 해시 값 (32 byte)
+     */
+    public static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256")
+                    .digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.demo.config;
+
+import com.example.demo.config.jwt.JwtProperties;
+import com.example.demo.config.jwt.SigningKeyRing;
+import com.example.demo.config.jwt.TokenAuthenticationCache;
+import com.example.demo.config.jwt.TokenProvider;
+import com.example.demo.config.jwt.TokenRevocationList;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenAuthenticationFilterTest {
+
+    private MeterRegistry meterRegistry;
+    private TokenProvider tokenProvider;
+    private TokenAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setIssuer("2e40camn@gmail.com");
+        jwtProperties.setSecretKey("study-springboot");
+        meterRegistry = new SimpleMeterRegistry();
+        tokenProvider = new TokenProvider(jwtProperties, new SigningKeyRing(jwtProperties),
+                new TokenAuthenticationCache(jwtProperties),
+                new TokenRevocationList(jwtProperties), new SimpleMeterRegistry());
+        filter = new TokenAuthenticationFilter(tokenProvider, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("doFilter(): 인증 정보를 조회하지 않는 요청은 토큰을 검증하지 않는다.")
+    @Test
+    void doFilter_unusedTokenIsNotVerified() throws Exception {
+        // given
+        MockHttpServletRequest request = request(tokenProvider.generateToken(1L, "user@email.com", Duration.ofHours(1)));
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> { });
+
+        // then
+        assertThat(count("unused")).isEqualTo(1);
+        assertThat(count("valid")).isZero();
+        assertThat(count("invalid")).isZero();
+    }
+
+    @DisplayName("doFilter(): 인증 정보를 조회하면 그때 한 번만 검증해 인증 정보를 설정한다.")
+    @Test
+    void doFilter_verifiesOnFirstRead() throws Exception {
+        // given
+        MockHttpServletRequest request = request(tokenProvider.generateToken(1L, "user@email.com", Duration.ofHours(1)));
+        AtomicReference<Authentication> first = new AtomicReference<>();
+        AtomicReference<Authentication> second = new AtomicReference<>();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            first.set(SecurityContextHolder.getContext().getAuthentication());
+            second.set(SecurityContextHolder.getContext().getAuthentication());
+        });
+
+        // then
+        assertThat(first.get()).isNotNull();
+        assertThat(first.get().getName()).isEqualTo("user@email.com");
+        assertThat(second.get()).isSameAs(first.get());
+        assertThat(count("valid")).isEqualTo(1);
+        assertThat(count("unused")).isZero();
+    }
+
+    @DisplayName("doFilter(): 검증에 실패한 토큰은 인증 정보를 설정하지 않는다.")
+    @Test
+    void doFilter_invalidToken() throws Exception {
+        // given
+        MockHttpServletRequest request = request("invalid.token.value");
+        AtomicReference<Authentication> authentication = new AtomicReference<>();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> authentication.set(SecurityContextHolder.getContext().getAuthentication()));
+
+        // then
+        assertThat(authentication.get()).isNull();
+        assertThat(count("invalid")).isEqualTo(1);
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/articles");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    private long count(String outcome) {
+        return meterRegistry.timer("auth.filter", "outcome", outcome).count();
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.demo.config.cache;
+
+import com.example.demo.dao.UserDAO;
+import com.example.demo.dto.UserSnapshotDTO;
+import com.example.demo.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class UserCacheTest {
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        userCache.invalidateAll();
+        userRepository.deleteAll();
+    }
+
+    @DisplayName("findByEmail(): 한 번 조회한 사용자는 id, email 어느 쪽으로 조회해도 캐시에서 반환한다.")
+    @Test
+    void findByEmail() {
+        // given
+        UserDAO user = userRepository.save(UserDAO.builder()
+                .email("cache@gmail.com")
+                .password("test")
+                .build());
+        long idHits = userCache.idStats().hitCount();
+        long emailHits = userCache.emailStats().hitCount();
+
+        // when
+        UserSnapshotDTO first = userCache.findByEmail("cache@gmail.com").orElseThrow();
+        UserSnapshotDTO second = userCache.findByEmail("cache@gmail.com").orElseThrow();
+        UserSnapshotDTO byId = userCache.findById(user.getId()).orElseThrow();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(byId).isSameAs(first);
+        assertThat(userCache.emailStats().hitCount() - emailHits).isEqualTo(1L);
+        assertThat(userCache.idStats().hitCount() - idHits).isEqualTo(1L);
+    }
+
+    @DisplayName("evict(): 제거한 뒤에는 변경된 값을 다시 조회한다.")
+    @Test
+    void evict() {
+        // given
+        UserDAO user = userRepository.save(UserDAO.builder()
+                .email("evict@gmail.com")
+                .password("before")
+                .build());
+        userCache.findById(user.getId());
+        userRepository.save(user.updatePassword("after"));
+
+        // when
+        String cached = userCache.findByEmail("evict@gmail.com").orElseThrow().getPassword();
+        userCache.evict(user.getId(), null);
+        String reloaded = userCache.findByEmail("evict@gmail.com").orElseThrow().getPassword();
+
+        // then
+        assertThat(cached).isEqualTo("before");
+        assertThat(reloaded).isEqualTo("after");
+    }
+
+    @DisplayName("findById(): DB 조회 중에 evict() 가 호출되면 조회한 이전 값을 캐시에 남기지 않는다.")
+    @Test
+    void findById_evictDuringLoad() {
+        // given
+        UserRepository repository = mock(UserRepository.class);
+        UserCache cache = new UserCache(repository, new UserCacheProperties(), new SimpleMeterRegistry());
+        UserDAO before = UserDAO.builder().email("race@gmail.com").password("before").build();
+        UserDAO after = UserDAO.builder().email("race@gmail.com").password("after").build();
+        ReflectionTestUtils.setField(before, "id", 1L);
+        ReflectionTestUtils.setField(after, "id", 1L);
+        AtomicReference<UserDAO> stored = new AtomicReference<>(before);
+        when(repository.findById(1L)).thenAnswer(invocation -> {
+            UserDAO read = stored.get();
+            // 조회가 끝나기 전에 다른 트랜잭션이 변경 후 evict
+            stored.set(after);
+            cache.evict(1L, "race@gmail.com");
+            return Optional.of(read);
+        }).thenAnswer(invocation -> Optional.of(stored.get()));
+
+        // when
+        String stale = cache.findById(1L).orElseThrow().getPassword();
+        String reloaded = cache.findById(1L).orElseThrow().getPassword();
+
+        // then
+        assertThat(stale).isEqualTo("before");
+        assertThat(reloaded).isEqualTo("after");
+    }
+}
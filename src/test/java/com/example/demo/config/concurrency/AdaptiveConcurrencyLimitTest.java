@@ -0,0 +1,87 @@
+package com.example.demo.config.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimitTest {
+
+    @DisplayName("tryAcquire(): 처리 중인 요청이 limit 이면 거부하고, 반환하면 다시 허용한다.")
+    @Test
+    void tryAcquire_rejectsAboveLimit() {
+        // given
+        AdaptiveConcurrencyLimit limit = newLimit(4);
+        for(int i = 0; i < 4; i++) {
+            assertThat(limit.tryAcquire()).isTrue();
+        }
+
+        // when
+        boolean rejected = limit.tryAcquire();
+        limit.release(-1);
+        boolean accepted = limit.tryAcquire();
+
+        // then
+        assertThat(rejected).isFalse();
+        assertThat(accepted).isTrue();
+        assertThat(limit.getInflight()).isEqualTo(4);
+    }
+
+    @DisplayName("release(): 목표보다 빠르면 limit 을 늘리고, 느려지면 줄인다.")
+    @Test
+    void release_adjustsLimitByRtt() {
+        // given
+        AdaptiveConcurrencyLimit limit = newLimit(20);
+
+        // when
+        runWindows(limit, 20, Duration.ofMillis(20));
+        int grown = limit.getLimit();
+        runWindows(limit, 20, Duration.ofMillis(400));
+        int shrunk = limit.getLimit();
+
+        // then
+        assertThat(grown).isGreaterThan(20);
+        assertThat(shrunk).isLessThan(grown).isGreaterThanOrEqualTo(4);
+    }
+
+    @DisplayName("release(): limit 의 절반도 쓰지 않는 구간에서는 limit 을 늘리지 않는다.")
+    @Test
+    void release_doesNotGrowWhenIdle() {
+        // given
+        AdaptiveConcurrencyLimit limit = newLimit(20);
+
+        // when
+        for(int i = 0; i < 500; i++) {
+            limit.tryAcquire();
+            limit.release(Duration.ofMillis(1).toNanos());
+        }
+
+        // then
+        assertThat(limit.getLimit()).isEqualTo(20);
+    }
+
+    /**
+     * limit 만큼 동시에 처리하고 모두 같은 RTT 로 끝나는 구간 반복
+     */
+    private static void runWindows(AdaptiveConcurrencyLimit limit, int windows, Duration rtt) {
+        for(int window = 0; window < windows; window++) {
+            int samples = 0;
+            while(samples < 10) {
+                int acquired = 0;
+                while(limit.tryAcquire()) {
+                    acquired++;
+                }
+                for(int i = 0; i < acquired; i++) {
+                    limit.release(rtt.toNanos());
+                }
+                samples += acquired;
+            }
+        }
+    }
+
+    private static AdaptiveConcurrencyLimit newLimit(int initialLimit) {
+        return new AdaptiveConcurrencyLimit("login", Duration.ofMillis(100), initialLimit, 4, 200, 0.2, 10);
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.demo.config.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTest {
+
+    @DisplayName("doFilter(): 인코딩된 경로도 디코딩한 경로로 제한한다.")
+    @Test
+    void doFilter_encodedPath() throws Exception {
+        // given
+        ConcurrencyLimitProperties.Limit limit = new ConcurrencyLimitProperties.Limit();
+        limit.setName("login");
+        limit.setPaths(List.of("/api/token"));
+        limit.setInitialLimit(1);
+        limit.setMinLimit(1);
+        limit.setMaxLimit(1);
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setLimits(List.of(limit));
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(properties, new SimpleMeterRegistry());
+        MockHttpServletResponse encoded = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/token"), new MockHttpServletResponse(),
+                (req, res) -> filter.doFilter(new MockHttpServletRequest("POST", "/api/%74oken"), encoded,
+                        (innerReq, innerRes) -> { }));
+
+        // then
+        assertThat(encoded.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+    }
+}
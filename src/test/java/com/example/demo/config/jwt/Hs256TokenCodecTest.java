@@ -0,0 +1,138 @@
+package com.example.demo.config.jwt;
+
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.impl.TextCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+class Hs256TokenCodecTest {
+    private final JwtProperties jwtProperties = jwtProperties();
+    private final SecretKeySpec signingKey = new SecretKeySpec(
+            TextCodec.BASE64.decode(jwtProperties.getSecretKey()), SignatureAlgorithm.HS256.getJcaName());
+    private final Hs256TokenCodec codec = new Hs256TokenCodec(signingKey);
+
+    @DisplayName("encode(): jjwt 로 만든 토큰과 바이트 단위로 같은 토큰을 만든다.")
+    @Test
+    void encode_sameAsJjwt() {
+        // given
+        Date now = new Date();
+        Date expiry = new Date(now.getTime() + Duration.ofDays(14).toMillis());
+        String subject = "us\"er\n@email.com";
+
+        // when
+        String token = codec.encode(jwtProperties.getIssuer(), now, expiry, subject, 1L, "token-id");
+
+        // then
+        String jjwtToken = Jwts.builder()
+                .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
+                .setIssuer(jwtProperties.getIssuer())
+                .setIssuedAt(now)
+                .setExpiration(expiry)
+                .setSubject(subject)
+                .claim("id", 1L)
+                .setId("token-id")
+                .signWith(SignatureAlgorithm.HS256, jwtProperties.getSecretKey())
+                .compact();
+        assertThat(token).isEqualTo(jjwtToken);
+        assertThat(codec.decode(token, now.getTime()).getTokenId()).isEqualTo("token-id");
+    }
+
+    @DisplayName("encode(): kid 가 있는 키도 jjwt 와 같은 헤더(typ, kid, alg 순서)로 만든다.")
+    @Test
+    void encode_withKid_sameAsJjwt() {
+        // given
+        Hs256TokenCodec kidCodec = new Hs256TokenCodec(signingKey, "2025-01");
+        Date now = new Date();
+        Date expiry = new Date(now.getTime() + Duration.ofHours(2).toMillis());
+
+        // when
+        String token = kidCodec.encode(jwtProperties.getIssuer(), now, expiry, "user@email.com", 1L, "token-id");
+
+        // then
+        String jjwtToken = Jwts.builder()
+                .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
+                .setHeaderParam(JwsHeader.KEY_ID, "2025-01")
+                .setIssuer(jwtProperties.getIssuer())
+                .setIssuedAt(now)
+                .setExpiration(expiry)
+                .setSubject("user@email.com")
+                .claim("id", 1L)
+                .setId("token-id")
+                .signWith(SignatureAlgorithm.HS256, jwtProperties.getSecretKey())
+                .compact();
+        assertThat(token).isEqualTo(jjwtToken);
+        assertThat(codec.decode(token, now.getTime())).isNull();
+    }
+
+    @DisplayName("decode(): jjwt 로 만든 토큰을 검증하고 클레임을 가져올 수 있다.")
+    @Test
+    void decode_jjwtToken() {
+        // given
+        String token = JwtFactory.builder()
+                .subject("user@email.com")
+                .claims(Map.of("id", 1L, "name", "유저"))
+                .build()
+                .createToken(jwtProperties);
+
+        // when
+        VerifiedToken verifiedToken = codec.decode(token, System.currentTimeMillis());
+
+        // then
+        assertThat(verifiedToken.isValid()).isTrue();
+        assertThat(verifiedToken.getSubject()).isEqualTo("user@email.com");
+        assertThat(verifiedToken.getUserId()).isEqualTo(1L);
+    }
+
+    @DisplayName("decode(): 만료된 토큰, 서명이 다른 토큰은 실패 사유를 반환한다.")
+    @Test
+    void decode_rejectedToken() {
+        // given
+        String expired = JwtFactory.builder()
+                .expiration(new Date(new Date().getTime() - Duration.ofDays(7).toMillis()))
+                .build()
+                .createToken(jwtProperties);
+        String token = JwtFactory.withDefaultValues().createToken(jwtProperties);
+        String tampered = token.substring(0, token.lastIndexOf('.') + 1) + "AAAA" + token.substring(token.lastIndexOf('.') + 5);
+
+        // when
+        VerifiedToken expiredResult = codec.decode(expired, System.currentTimeMillis());
+        VerifiedToken tamperedResult = codec.decode(tampered, System.currentTimeMillis());
+
+        // then
+        assertThat(expiredResult.getRejectReason()).isEqualTo(TokenRejectReason.EXPIRED);
+        assertThat(tamperedResult.getRejectReason()).isEqualTo(TokenRejectReason.INVALID_SIGNATURE);
+    }
+
+    @DisplayName("decode(): 처리할 수 없는 형태의 토큰이면 null 을 반환한다. (jjwt 로 처리)")
+    @Test
+    void decode_unsupportedToken() {
+        // given
+        String token = JwtFactory.builder()
+                .claims(Map.of("roles", new String[]{"USER"}))
+                .build()
+                .createToken(jwtProperties);
+
+        // when
+        VerifiedToken verifiedToken = codec.decode(token, System.currentTimeMillis());
+
+        // then
+        assertThat(verifiedToken).isNull();
+    }
+
+    private static JwtProperties jwtProperties() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setIssuer("2e40camn@gmail.com");
+        jwtProperties.setSecretKey("study-springboot");
+        return jwtProperties;
+    }
+}
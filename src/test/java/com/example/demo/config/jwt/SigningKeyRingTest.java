@@ -0,0 +1,202 @@
+package com.example.demo.config.jwt;
+
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SigningKeyRingTest {
+
+    @DisplayName("rotate(): 교체 후에도 이전 키로 서명한 토큰은 keyOverlap 동안 검증된다.")
+    @ParameterizedTest(name = "compactCodec={0}")
+    @ValueSource(booleans = {true, false})
+    void rotate_previousKeyStillVerifies(boolean compactCodec) {
+        // given
+        JwtProperties jwtProperties = jwtProperties(compactCodec, Duration.ofDays(14));
+        SigningKeyRing keyRing = new SigningKeyRing(jwtProperties);
+        TokenProvider tokenProvider = tokenProvider(jwtProperties, keyRing);
+
+        String legacyToken = tokenProvider.generateToken(1L, "user@email.com", Duration.ofHours(1));
+        keyRing.rotate("k1", "c2VjcmV0LWsx");
+        String k1Token = tokenProvider.generateToken(1L, "user@email.com", Duration.ofHours(1));
+
+        // when
+        keyRing.rotate("k2", "c2VjcmV0LWsy");
+        String k2Token = tokenProvider.generateToken(1L, "user@email.com", Duration.ofHours(1));
+
+        // then
+        assertThat(keyRing.activeKey().kid()).isEqualTo("k2");
+        assertThat(tokenProvider.validToken(legacyToken)).isTrue();
+        assertThat(tokenProvider.validToken(k1Token)).isTrue();
+        assertThat(tokenProvider.validToken(k2Token)).isTrue();
+    }
+
+    @DisplayName("removeRetiredKeys(): 검증 기간이 지난 키로 서명한 토큰은 검증에 실패한다.")
+    @ParameterizedTest(name = "compactCodec={0}")
+    @ValueSource(booleans = {true, false})
+    void removeRetiredKeys(boolean compactCodec) {
+        // given
+        JwtProperties jwtProperties = jwtProperties(compactCodec, Duration.ZERO);
+        SigningKeyRing keyRing = new SigningKeyRing(jwtProperties);
+        TokenProvider tokenProvider = tokenProvider(jwtProperties, keyRing);
+
+        keyRing.rotate("k1", "c2VjcmV0LWsx");
+        String k1Token = tokenProvider.generateToken(1L, "user@email.com", Duration.ofHours(1));
+        keyRing.rotate("k2", "c2VjcmV0LWsy");
+
+        // when
+        keyRing.removeRetiredKeys();
+
+        // then
+        assertThat(tokenProvider.verify(k1Token).getRejectReason()).isEqualTo(TokenRejectReason.INVALID_SIGNATURE);
+    }
+
+    @DisplayName("removeRetiredKeys(): kid 있는 키로 교체되고 검증 기간이 지나면 kid 없는 토큰은 검증에 실패한다.")
+    @ParameterizedTest(name = "compactCodec={0}")
+    @ValueSource(booleans = {true, false})
+    void removeRetiredKeys_legacyKey(boolean compactCodec) {
+        // given
+        JwtProperties jwtProperties = jwtProperties(compactCodec, Duration.ZERO);
+        SigningKeyRing keyRing = new SigningKeyRing(jwtProperties);
+        TokenProvider tokenProvider = tokenProvider(jwtProperties, keyRing);
+
+        String legacyToken = tokenProvider.generateToken(1L, "user@email.com", Duration.ofHours(1));
+        keyRing.rotate("k1", "c2VjcmV0LWsx");
+
+        // when
+        keyRing.removeRetiredKeys();
+
+        // then
+        assertThat(tokenProvider.verify(legacyToken).getRejectReason())
+                .isEqualTo(TokenRejectReason.INVALID_SIGNATURE);
+        assertThat(tokenProvider.validToken(tokenProvider.generateToken(1L, "user@email.com",
+                Duration.ofHours(1)))).isTrue();
+    }
+
+    @DisplayName("rotate(): 이미 있는 kid 로는 교체할 수 없다.")
+    @Test
+    void rotate_duplicateKid() {
+        // given
+        SigningKeyRing keyRing = new SigningKeyRing(jwtProperties(true, Duration.ofDays(14)));
+        keyRing.rotate("k1", "c2VjcmV0LWsx");
+
+        // when, then
+        assertThatThrownBy(() -> keyRing.rotate("k1", "c2VjcmV0LWsy"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("ES256: 개인키로 서명한 토큰을 공개키로 검증하고, 이전 HS256 토큰도 계속 검증한다.")
+    @Test
+    void es256_signAndVerify() {
+        // given
+        JwtProperties hs256Properties = jwtProperties(true, Duration.ofDays(14));
+        String hs256Token = tokenProvider(hs256Properties, new SigningKeyRing(hs256Properties))
+                .generateToken(1L, "user@email.com", Duration.ofHours(1));
+
+        JwtProperties jwtProperties = jwtProperties(true, Duration.ofDays(14));
+        jwtProperties.setAlgorithm(SignatureAlgorithm.ES256);
+        jwtProperties.getEc().setGenerateEphemeral(true);
+        SigningKeyRing keyRing = new SigningKeyRing(jwtProperties);
+        TokenProvider tokenProvider = tokenProvider(jwtProperties, keyRing);
+
+        // when
+        String token = tokenProvider.generateToken(1L, "user@email.com", Duration.ofHours(1));
+
+        // then
+        String header = new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))),
+                StandardCharsets.UTF_8);
+        assertThat(header).contains("\"alg\":\"ES256\"", "\"kid\":\"" + keyRing.activeKey().kid() + "\"");
+        assertThat(tokenProvider.verify(token).getUserId()).isEqualTo(1L);
+        assertThat(tokenProvider.validToken(hs256Token)).isTrue();
+        assertThat(new String(keyRing.jwks().json(), StandardCharsets.UTF_8))
+                .contains("\"kid\":\"" + keyRing.activeKey().kid() + "\"", "\"crv\":\"P-256\"")
+                .doesNotContain("study-springboot");
+    }
+
+    @DisplayName("ES256: 공개키를 HS256 비밀키로 써서 만든 토큰은 검증에 실패한다.")
+    @Test
+    void es256_rejectsAlgorithmConfusion() {
+        // given
+        JwtProperties jwtProperties = jwtProperties(false, Duration.ofDays(14));
+        jwtProperties.setAlgorithm(SignatureAlgorithm.ES256);
+        jwtProperties.getEc().setGenerateEphemeral(true);
+        SigningKeyRing keyRing = new SigningKeyRing(jwtProperties);
+        TokenProvider tokenProvider = tokenProvider(jwtProperties, keyRing);
+        SigningKeyRing.SigningKey activeKey = keyRing.activeKey();
+
+        // when
+        String forged = Jwts.builder()
+                .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
+                .setHeaderParam(JwsHeader.KEY_ID, activeKey.kid())
+                .setSubject("admin@email.com")
+                .claim("id", 1L)
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(SignatureAlgorithm.HS256, activeKey.verificationKey().getEncoded())
+                .compact();
+
+        // then
+        assertThat(tokenProvider.verify(forged).getRejectReason()).isEqualTo(TokenRejectReason.INVALID_SIGNATURE);
+    }
+
+    @DisplayName("rotate(): ES256 은 새 키 쌍을 만들고 JWKS 가 바뀐다.")
+    @Test
+    void es256_rotate() {
+        // given
+        JwtProperties jwtProperties = jwtProperties(true, Duration.ofDays(14));
+        jwtProperties.setAlgorithm(SignatureAlgorithm.ES256);
+        jwtProperties.getEc().setGenerateEphemeral(true);
+        SigningKeyRing keyRing = new SigningKeyRing(jwtProperties);
+        JsonWebKeySet before = keyRing.jwks();
+
+        // when
+        keyRing.rotate("k2");
+
+        // then
+        assertThat(keyRing.activeKey().kid()).isEqualTo("k2");
+        assertThat(keyRing.jwks().etag()).isNotEqualTo(before.etag());
+        assertThat(new String(keyRing.jwks().json(), StandardCharsets.UTF_8)).contains("\"kid\":\"k2\"");
+        assertThatThrownBy(() -> keyRing.rotate("k3", "c2VjcmV0LWsz"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("ES256: 개인키가 없고 generateEphemeral 도 아니면 시작하지 않는다.")
+    @Test
+    void es256_requiresPrivateKey() {
+        // given
+        JwtProperties jwtProperties = jwtProperties(true, Duration.ofDays(14));
+        jwtProperties.setAlgorithm(SignatureAlgorithm.ES256);
+
+        // when, then
+        assertThatThrownBy(() -> new SigningKeyRing(jwtProperties))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("jwt.ec.private-key");
+    }
+
+    private static JwtProperties jwtProperties(boolean compactCodec, Duration keyOverlap) {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setIssuer("2e40camn@gmail.com");
+        jwtProperties.setSecretKey("study-springboot");
+        jwtProperties.setCompactCodec(compactCodec);
+        jwtProperties.setKeyOverlap(keyOverlap);
+        jwtProperties.getAuthenticationCache().setEnabled(false);
+        return jwtProperties;
+    }
+
+    private static TokenProvider tokenProvider(JwtProperties jwtProperties, SigningKeyRing keyRing) {
+        return new TokenProvider(jwtProperties, keyRing, new TokenAuthenticationCache(jwtProperties),
+                new TokenRevocationList(jwtProperties), new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.demo.config.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.time.Duration;
+import java.util.Date;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+class TokenAuthenticationCacheTest {
+
+    private JwtProperties jwtProperties;
+
+    @BeforeEach
+    void setUp() {
+        jwtProperties = new JwtProperties();
+        jwtProperties.getAuthenticationCache().setMaximumSize(100);
+        jwtProperties.getAuthenticationCache().setMaximumTtl(Duration.ofMinutes(10));
+    }
+
+    @DisplayName("get(): 저장된 토큰이면 같은 인증 정보를 반환하고 hit 로 집계한다.")
+    @Test
+    void get_hit() {
+        // given
+        TokenAuthenticationCache cache = new TokenAuthenticationCache(jwtProperties);
+        Authentication authentication = new UsernamePasswordAuthenticationToken("user@email.com", "token");
+        cache.put("token", authentication, "jti", new Date(System.currentTimeMillis() + Duration.ofHours(1).toMillis()));
+
+        // when
+        TokenAuthenticationCache.CachedAuthentication cached = cache.get("token");
+        TokenAuthenticationCache.CachedAuthentication missed = cache.get("other-token");
+
+        // then
+        assertThat(cached.authentication()).isSameAs(authentication);
+        assertThat(cached.tokenId()).isEqualTo("jti");
+        assertThat(missed).isNull();
+        assertThat(cache.stats().hitCount()).isEqualTo(1L);
+        assertThat(cache.stats().missCount()).isEqualTo(1L);
+    }
+
+    @DisplayName("get(): 토큰 만료 일시가 지난 엔트리는 반환하지 않는다.")
+    @Test
+    void get_expiredToken() {
+        // given
+        TokenAuthenticationCache cache = new TokenAuthenticationCache(jwtProperties);
+        Authentication authentication = new UsernamePasswordAuthenticationToken("user@email.com", "token");
+        cache.put("token", authentication, "jti", new Date(System.currentTimeMillis() - 1000));
+
+        // when
+        TokenAuthenticationCache.CachedAuthentication cached = cache.get("token");
+
+        // then
+        assertThat(cached).isNull();
+    }
+
+    @DisplayName("get(): 캐시를 끄면 저장하지 않는다.")
+    @Test
+    void get_disabled() {
+        // given
+        jwtProperties.getAuthenticationCache().setEnabled(false);
+        TokenAuthenticationCache cache = new TokenAuthenticationCache(jwtProperties);
+        Authentication authentication = new UsernamePasswordAuthenticationToken("user@email.com", "token");
+        cache.put("token", authentication, "jti", new Date(System.currentTimeMillis() + Duration.ofHours(1).toMillis()));
+
+        // when
+        TokenAuthenticationCache.CachedAuthentication cached = cache.get("token");
+
+        // then
+        assertThat(cached).isNull();
+    }
+}
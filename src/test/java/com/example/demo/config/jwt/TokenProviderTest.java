@@ -3,6 +3,10 @@ package com.example.demo.config.jwt;
 import com.example.demo.dao.UserDAO;
 import com.example.demo.repository.UserRepository;
 import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,8 +14,11 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -27,6 +34,9 @@ class TokenProviderTest {
     @Autowired
     private JwtProperties jwtProperties;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @DisplayName("generateToken(): 유저 정보와 만료 기간을 전달해 토큰을 만들 수 있다.")
     @Test
     void generateToken() {
@@ -80,6 +90,72 @@ class TokenProviderTest {
         assertThat(result).isTrue();
     }
 
+    @DisplayName("verify(): 만료된 토큰일 때, 실패 사유 EXPIRED 를 반환한다.")
+    @Test
+    void verify_expiredToken() {
+        // given
+        String token = JwtFactory.builder()
+                .expiration(new Date(new Date().getTime() - Duration.ofDays(7).toMillis()))
+                .build()
+                .createToken(jwtProperties);
+
+        // when
+        VerifiedToken verifiedToken = tokenProvider.verify(token);
+
+        // then
+        assertThat(verifiedToken.isValid()).isFalse();
+        assertThat(verifiedToken.getRejectReason()).isEqualTo(TokenRejectReason.EXPIRED);
+    }
+
+    @DisplayName("verify(): 다른 비밀키로 서명된 토큰일 때, 실패 사유 INVALID_SIGNATURE 를 반환한다.")
+    @Test
+    void verify_invalidSignature() {
+        // given
+        JwtProperties otherProperties = new JwtProperties();
+        otherProperties.setIssuer(jwtProperties.getIssuer());
+        otherProperties.setSecretKey("another-secret-key");
+        String token = JwtFactory.withDefaultValues()
+                .createToken(otherProperties);
+
+        // when
+        VerifiedToken verifiedToken = tokenProvider.verify(token);
+
+        // then
+        assertThat(verifiedToken.getRejectReason()).isEqualTo(TokenRejectReason.INVALID_SIGNATURE);
+    }
+
+    @DisplayName("verify(): 토큰이 없거나 형식이 잘못되었을 때, 실패 사유를 반환한다.")
+    @Test
+    void verify_missingOrMalformedToken() {
+        // when
+        VerifiedToken missing = tokenProvider.verify(null);
+        VerifiedToken malformed = tokenProvider.verify("not-a-jwt");
+
+        // then
+        assertThat(missing.getRejectReason()).isEqualTo(TokenRejectReason.MISSING);
+        assertThat(malformed.getRejectReason()).isEqualTo(TokenRejectReason.MALFORMED);
+    }
+
+    @DisplayName("verify(): 유효한 토큰일 때, 한 번의 검증으로 subject 와 유저 ID 를 가져올 수 있다.")
+    @Test
+    void verify_validToken() {
+        // given
+        String userEmail = "user@email.com";
+        String token = JwtFactory.builder()
+                .subject(userEmail)
+                .claims(Map.of("id", 1L))
+                .build()
+                .createToken(jwtProperties);
+
+        // when
+        VerifiedToken verifiedToken = tokenProvider.verify(token);
+
+        // then
+        assertThat(verifiedToken.isValid()).isTrue();
+        assertThat(verifiedToken.getSubject()).isEqualTo(userEmail);
+        assertThat(verifiedToken.getUserId()).isEqualTo(1L);
+    }
+
     @DisplayName("getAuthentication(): 토큰 기반으로 인증 정보를 가져올 수 있다.")
     @Test
     void getAuthentication() {
@@ -113,4 +189,64 @@ class TokenProviderTest {
         // then
         assertThat(userIdByToken).isEqualTo(userId);
     }
-}
\ No newline at end of file
+
+    @DisplayName("verify(): 검증 시간을 결과(outcome)별로 기록한다.")
+    @Test
+    void verify_recordsTimerByOutcome() {
+        // given
+        String expiredToken = JwtFactory.builder()
+                .expiration(new Date(new Date().getTime() - Duration.ofDays(7).toMillis()))
+                .build()
+                .createToken(jwtProperties);
+        long expiredCount = meterRegistry.timer("auth.token.verify", "outcome", "expired").count();
+
+        // when
+        tokenProvider.verify(expiredToken);
+
+        // then
+        assertThat(meterRegistry.timer("auth.token.verify", "outcome", "expired").count())
+                .isEqualTo(expiredCount + 1);
+    }
+
+    @DisplayName("verify(): 임계값 이상 걸린 검증은 JFR 이벤트로 기록한다.")
+    @Test
+    void verify_recordsJfrEvent() throws Exception {
+        // given
+        String token = JwtFactory.withDefaultValues().createToken(jwtProperties);
+        Path dump = Files.createTempFile("token-verify", ".jfr");
+
+        // when
+        try (Recording recording = new Recording()) {
+            recording.enable("com.example.demo.TokenVerify").withThreshold(Duration.ZERO);
+            recording.start();
+            tokenProvider.verify(token);
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        // then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        Files.deleteIfExists(dump);
+        assertThat(events.stream()
+                .filter(event -> "com.example.demo.TokenVerify".equals(event.getEventType().getName()))
+                .anyMatch(event -> "valid".equals(event.getString("outcome"))
+                        && event.getInt("tokenLength") == token.length()))
+                .isTrue();
+    }
+
+    @DisplayName("authenticate(): 폐기된 토큰은 캐시된 인증 정보가 있어도 인증하지 않는다.")
+    @Test
+    void authenticate_revokedToken() {
+        // given
+        String token = tokenProvider.generateToken(1L, "revoked@email.com", Duration.ofHours(1));
+        assertThat(tokenProvider.authenticate(token).isPresent()).isTrue();
+
+        // when
+        boolean revoked = tokenProvider.revoke(token);
+
+        // then
+        assertThat(revoked).isTrue();
+        assertThat(tokenProvider.verify(token).getTokenId()).isNotNull();
+        assertThat(tokenProvider.authenticate(token).isPresent()).isFalse();
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.demo.config.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenRevocationListTest {
+
+    @DisplayName("isRevoked(): 폐기한 jti 만 폐기된 것으로 판단한다.")
+    @Test
+    void isRevoked() {
+        // given
+        TokenRevocationList revocationList = new TokenRevocationList(new JwtProperties());
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+        for(int i = 0; i < 1_000; i++) {
+            revocationList.revoke("revoked-" + i, expiration);
+        }
+
+        // when, then
+        for(int i = 0; i < 1_000; i++) {
+            assertThat(revocationList.isRevoked("revoked-" + i)).isTrue();
+            assertThat(revocationList.isRevoked("active-" + i)).isFalse();
+        }
+        assertThat(revocationList.isRevoked(null)).isFalse();
+    }
+
+    @DisplayName("purge(): 토큰 만료 일시가 지난 엔트리만 제거한다.")
+    @Test
+    void purge() throws InterruptedException {
+        // given
+        TokenRevocationList revocationList = new TokenRevocationList(new JwtProperties());
+        revocationList.revoke("short", new Date(System.currentTimeMillis() + 50));
+        revocationList.revoke("long", new Date(System.currentTimeMillis() + 60_000));
+        Thread.sleep(100);
+
+        // when
+        revocationList.purge();
+
+        // then
+        assertThat(revocationList.size()).isEqualTo(1);
+        assertThat(revocationList.isRevoked("long")).isTrue();
+        assertThat(revocationList.isRevoked("short")).isFalse();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.demo.config.password;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BCryptPasswordHasherTest {
+
+    @DisplayName("calibrate(): 목표 시간 기준으로 고른 strength 는 설정한 범위를 벗어나지 않는다.")
+    @Test
+    void calibrate() {
+        // when
+        int lowest = BCryptPasswordHasher.calibrate(Duration.ZERO, 10, 16);
+        int highest = BCryptPasswordHasher.calibrate(Duration.ofDays(1), 10, 16);
+
+        // then
+        assertThat(lowest).isEqualTo(10);
+        assertThat(highest).isEqualTo(16);
+    }
+
+    @DisplayName("needsRehash(): strength 가 설정보다 낮거나 BCrypt 가 아닌 해시만 다시 해시한다.")
+    @Test
+    void needsRehash() {
+        // given
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setStrength(5);
+        BCryptPasswordHasher hasher = new BCryptPasswordHasher(properties, new SimpleMeterRegistry());
+
+        String current = hasher.hash("1234");
+        String weaker = new BCryptPasswordEncoder(4).encode("1234");
+        String stronger = new BCryptPasswordEncoder(6).encode("1234");
+
+        // when, then
+        assertThat(hasher.matches("1234", current)).isTrue();
+        assertThat(hasher.matches("1234", weaker)).isTrue();
+        assertThat(hasher.needsRehash(current)).isFalse();
+        assertThat(hasher.needsRehash(weaker)).isTrue();
+        assertThat(hasher.needsRehash(stronger)).isFalse();
+        assertThat(hasher.needsRehash("plain-text")).isTrue();
+        assertThat(hasher.needsRehash(null)).isFalse();
+    }
+
+    @DisplayName("needsRehash(): 보정한 strength 와 달라도 minStrength 이상이면 다시 해시하지 않는다.")
+    @Test
+    void needsRehash_calibrated() {
+        // given
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setMinStrength(4);
+        properties.setMaxStrength(8);
+        BCryptPasswordHasher hasher = new BCryptPasswordHasher(properties, new SimpleMeterRegistry());
+
+        // when, then (다른 노드가 다른 strength 로 보정해 저장한 해시)
+        for(int strength = 4; strength <= 8; strength++) {
+            assertThat(hasher.needsRehash(new BCryptPasswordEncoder(strength).encode("1234"))).isFalse();
+        }
+        assertThat(hasher.needsRehash(new BCryptPasswordEncoder(4).encode("1234").replace("$04$", "$03$")))
+                .isTrue();
+    }
+}
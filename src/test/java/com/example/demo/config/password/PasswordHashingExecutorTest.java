@@ -0,0 +1,146 @@
+package com.example.demo.config.password;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingExecutorTest {
+
+    @DisplayName("encode(): 전용 스레드 풀에서 해시하고 소요 시간을 기록한다.")
+    @Test
+    void encode() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PasswordHashingExecutor executor = new PasswordHashingExecutor(
+                new FixedPasswordEncoder(new CountDownLatch(0)), new PasswordHashingProperties(), meterRegistry);
+
+        // when
+        String encoded = executor.encode("1234");
+
+        // then
+        assertThat(encoded).isEqualTo("{hashed}1234");
+        assertThat(meterRegistry.get("password.hash.latency").timer().count()).isEqualTo(1L);
+        executor.shutdown();
+    }
+
+    @DisplayName("encode(): 대기열이 가득 차면 기다리지 않고 거절한다.")
+    @Test
+    void encode_rejectedWhenQueueIsFull() throws Exception {
+        // given : 스레드 1개, 대기열 1개, 해시가 끝나지 않는 인코더
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setPoolSize(1);
+        properties.setQueueCapacity(1);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PasswordHashingExecutor executor = new PasswordHashingExecutor(
+                new FixedPasswordEncoder(release), properties, meterRegistry);
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        Future<String> running = callers.submit(() -> executor.encode("running"));
+        Future<String> queued = callers.submit(() -> executor.encode("queued"));
+        while (meterRegistry.get("password.hash.queue.depth").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // when, then
+        assertThatThrownBy(() -> executor.encode("rejected"))
+                .isInstanceOf(PasswordHashingRejectedException.class);
+        assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("{hashed}running");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("{hashed}queued");
+        executor.shutdown();
+        callers.shutdown();
+    }
+
+    @DisplayName("encode(): 제한 시간이 지나면 대기 중인 해시는 대기열에서 제거되어 실행되지 않는다.")
+    @Test
+    void encode_timeoutRemovesQueuedHash() throws Exception {
+        // given : 스레드 1개, 대기열 1개, 인터럽트를 무시하는 인코더 (BCrypt 와 같음)
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setPoolSize(1);
+        properties.setQueueCapacity(1);
+        properties.setTimeout(Duration.ofMillis(200));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PasswordHashingExecutor executor = new PasswordHashingExecutor(
+                new UninterruptiblePasswordEncoder(release), properties, meterRegistry);
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        Future<String> running = callers.submit(() -> executor.encode("running"));
+        while (meterRegistry.get("password.hash.active").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+        Future<String> queued = callers.submit(() -> executor.encode("queued"));
+
+        // when, then
+        assertThatThrownBy(() -> running.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(PasswordHashingRejectedException.class);
+        assertThatThrownBy(() -> queued.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(PasswordHashingRejectedException.class);
+        assertThat(meterRegistry.get("password.hash.queue.depth").gauge().value()).isZero();
+
+        release.countDown();
+        executor.shutdown();
+        callers.shutdown();
+        assertThat(callers.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        while (meterRegistry.get("password.hash.active").gauge().value() > 0) {
+            Thread.onSpinWait();
+        }
+        // 이미 시작한 해시 1건만 실행됨
+        assertThat(meterRegistry.get("password.hash.latency").timer().count()).isEqualTo(1L);
+    }
+
+    private record UninterruptiblePasswordEncoder(CountDownLatch release) implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    release.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if(interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            return "{hashed}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals(encode(rawPassword));
+        }
+    }
+
+    private record FixedPasswordEncoder(CountDownLatch release) implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "{hashed}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals(encode(rawPassword));
+        }
+    }
+}
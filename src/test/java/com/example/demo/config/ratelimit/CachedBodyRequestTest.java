@@ -0,0 +1,57 @@
+package com.example.demo.config.ratelimit;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachedBodyRequestTest {
+
+    @DisplayName("setReadListener(): 미리 읽은 본문을 비동기 읽기로도 끝까지 제공한다.")
+    @Test
+    void setReadListener() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/token");
+        request.setContent("{\"refreshToken\":\"token\"}".getBytes(StandardCharsets.UTF_8));
+        CachedBodyRequest cached = CachedBodyRequest.read(request, 8);
+        ServletInputStream inputStream = cached.getInputStream();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        List<String> events = new ArrayList<>();
+
+        // when
+        inputStream.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                events.add("data");
+                byte[] buffer = new byte[4];
+                int n;
+                while(inputStream.isReady() && (n = inputStream.read(buffer)) >= 0) {
+                    body.write(buffer, 0, n);
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                events.add("done");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                events.add("error");
+            }
+        });
+
+        // then
+        assertThat(events).containsExactly("data", "done");
+        assertThat(body.toString(StandardCharsets.UTF_8)).isEqualTo("{\"refreshToken\":\"token\"}");
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.demo.config.ratelimit;
+
+import com.example.demo.config.jwt.JwtProperties;
+import com.example.demo.config.jwt.SigningKeyRing;
+import com.example.demo.config.jwt.TokenAuthenticationCache;
+import com.example.demo.config.jwt.TokenProvider;
+import com.example.demo.config.jwt.TokenRevocationList;
+import com.example.demo.config.jwt.VerifiedToken;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    @DisplayName("doFilter(): burst 를 넘는 요청은 429 와 Retry-After 로 거부하고, 다른 IP 는 따로 제한한다.")
+    @Test
+    void doFilter_throttlesPerIp() throws Exception {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RateLimitFilter filter = new RateLimitFilter(properties(RateLimitKey.IP, 1, Duration.ofMinutes(1), 2),
+                new RateLimiter(1_000, Duration.ofMinutes(10)), null, meterRegistry);
+        AtomicInteger passed = new AtomicInteger();
+        FilterChain chain = (req, res) -> passed.incrementAndGet();
+
+        // when
+        for(int i = 0; i < 2; i++) {
+            filter.doFilter(request("10.0.0.1"), new MockHttpServletResponse(), chain);
+        }
+        MockHttpServletResponse throttled = new MockHttpServletResponse();
+        filter.doFilter(request("10.0.0.1"), throttled, chain);
+        MockHttpServletResponse otherIp = new MockHttpServletResponse();
+        filter.doFilter(request("10.0.0.2"), otherIp, chain);
+
+        // then
+        assertThat(passed).hasValue(3);
+        assertThat(throttled.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(Long.parseLong(throttled.getHeader(HttpHeaders.RETRY_AFTER))).isBetween(1L, 60L);
+        assertThat(otherIp.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(meterRegistry.counter("rate.limit.requests",
+                "route", "/saveUser", "key", "ip", "outcome", "throttled").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("rate.limit.requests",
+                "route", "/saveUser", "key", "ip", "outcome", "allowed").count()).isEqualTo(3.0);
+    }
+
+    @DisplayName("doFilter(): 설정되지 않은 경로는 제한하지 않는다.")
+    @Test
+    void doFilter_otherRoute() throws Exception {
+        // given
+        RateLimitFilter filter = new RateLimitFilter(properties(RateLimitKey.IP, 1, Duration.ofMinutes(1), 1),
+                new RateLimiter(1_000, Duration.ofMinutes(10)), null, new SimpleMeterRegistry());
+        AtomicInteger passed = new AtomicInteger();
+
+        // when
+        for(int i = 0; i < 5; i++) {
+            filter.doFilter(new MockHttpServletRequest("GET", "/login"), new MockHttpServletResponse(),
+                    (req, res) -> passed.incrementAndGet());
+        }
+
+        // then
+        assertThat(passed).hasValue(5);
+    }
+
+    @DisplayName("doFilter(): 인코딩된 경로도 디코딩한 경로로 제한한다.")
+    @Test
+    void doFilter_encodedPath() throws Exception {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RateLimitFilter filter = new RateLimitFilter(properties(RateLimitKey.IP, 1, Duration.ofMinutes(1), 1),
+                new RateLimiter(1_000, Duration.ofMinutes(10)), null, meterRegistry);
+        AtomicInteger passed = new AtomicInteger();
+        FilterChain chain = (req, res) -> passed.incrementAndGet();
+
+        // when
+        filter.doFilter(request("10.0.0.1"), new MockHttpServletResponse(), chain);
+        MockHttpServletRequest encoded = new MockHttpServletRequest("POST", "/save%55ser");
+        encoded.setRemoteAddr("10.0.0.1");
+        MockHttpServletResponse throttled = new MockHttpServletResponse();
+        filter.doFilter(encoded, throttled, chain);
+
+        // then
+        assertThat(passed).hasValue(1);
+        assertThat(throttled.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+    }
+
+    @DisplayName("doFilter(): user 제한에 거부된 요청은 ip 제한에서 allowed 로 세지 않고, 검증 결과는 요청 속성으로 넘긴다.")
+    @Test
+    void doFilter_userRule() throws Exception {
+        // given
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setIssuer("2e40camn@gmail.com");
+        jwtProperties.setSecretKey("study-springboot");
+        TokenProvider tokenProvider = new TokenProvider(jwtProperties, new SigningKeyRing(jwtProperties),
+                new TokenAuthenticationCache(jwtProperties),
+                new TokenRevocationList(jwtProperties), new SimpleMeterRegistry());
+        String refreshToken = tokenProvider.generateToken(7L, "user@email.com", Duration.ofDays(14));
+
+        RateLimitProperties.Route route = new RateLimitProperties.Route();
+        route.setPath("/api/token");
+        route.setLimits(List.of(limit(RateLimitKey.IP, 100, Duration.ofMinutes(1), 100),
+                limit(RateLimitKey.USER, 1, Duration.ofMinutes(1), 1)));
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRoutes(List.of(route));
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RateLimitFilter filter = new RateLimitFilter(properties, new RateLimiter(1_000, Duration.ofMinutes(10)),
+                tokenProvider, meterRegistry);
+        AtomicReference<Object> verified = new AtomicReference<>();
+
+        // when
+        filter.doFilter(tokenRequest(refreshToken), new MockHttpServletResponse(),
+                (req, res) -> verified.set(req.getAttribute(RateLimitFilter.VERIFIED_REFRESH_TOKEN)));
+        MockHttpServletResponse throttled = new MockHttpServletResponse();
+        filter.doFilter(tokenRequest(refreshToken), throttled, (req, res) -> { });
+
+        // then
+        assertThat(throttled.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(verified.get()).isInstanceOfSatisfying(VerifiedToken.class,
+                token -> assertThat(token.getToken()).isEqualTo(refreshToken));
+        assertThat(meterRegistry.counter("rate.limit.requests",
+                "route", "/api/token", "key", "ip", "outcome", "allowed").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("rate.limit.requests",
+                "route", "/api/token", "key", "user", "outcome", "throttled").count()).isEqualTo(1.0);
+    }
+
+    private static MockHttpServletRequest tokenRequest(String refreshToken) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/token");
+        request.setRemoteAddr("10.0.0.1");
+        request.setContentType("application/json");
+        request.setContent(("{\"refreshToken\":\"" + refreshToken + "\"}").getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/saveUser");
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+
+    private static RateLimitProperties properties(RateLimitKey key, long permits, Duration period, long burst) {
+        RateLimitProperties.Route route = new RateLimitProperties.Route();
+        route.setPath("/saveUser");
+        route.setLimits(List.of(limit(key, permits, period, burst)));
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRoutes(List.of(route));
+        return properties;
+    }
+
+    private static RateLimitProperties.Limit limit(RateLimitKey key, long permits, Duration period, long burst) {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setKey(key);
+        limit.setPermits(permits);
+        limit.setPeriod(period);
+        limit.setBurst(burst);
+        return limit;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.demo.config.timing;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServerTimingFilterTest {
+
+    @DisplayName("doFilter(): 샘플링된 요청은 기록된 단계 시간을 Server-Timing 헤더로 응답한다.")
+    @Test
+    void doFilter_sampled() throws Exception {
+        // given
+        ServerTimingProperties properties = new ServerTimingProperties();
+        properties.setSampleRate(1.0);
+        ServerTimingFilter filter = new ServerTimingFilter(properties);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            ServerTiming.record(ServerTiming.VERIFY, 1_500_000);
+            ServerTiming.record(ServerTiming.DB, 1_000_000);
+            ServerTiming.record(ServerTiming.DB, 2_000_000);
+        };
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/token"), response, chain);
+
+        // then
+        assertThat(response.getHeader(ServerTimingFilter.HEADER_SERVER_TIMING))
+                .startsWith("verify;dur=1.500, db;dur=3.000, total;dur=");
+        assertThat(ServerTiming.isActive()).isFalse();
+    }
+
+    @DisplayName("doFilter(): 샘플링되지 않은 요청은 기록하지 않는다.")
+    @Test
+    void doFilter_notSampled() throws Exception {
+        // given
+        ServerTimingProperties properties = new ServerTimingProperties();
+        properties.setSampleRate(0.0);
+        ServerTimingFilter filter = new ServerTimingFilter(properties);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> assertThat(ServerTiming.isActive()).isFalse();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/articles"), response, chain);
+
+        // then
+        assertThat(response.getHeader(ServerTimingFilter.HEADER_SERVER_TIMING)).isNull();
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.demo.controller;
+
+import com.example.demo.config.jwt.SigningKeyRing;
+import com.example.demo.config.jwt.TokenProvider;
+import com.example.demo.dto.RotateKeyRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 스프링 시큐리티 필터 체인을 포함한 MockMvc (@AutoConfigureMockMvc 기본값)
+ */
+@SpringBootTest(properties = "jwt.admins=admin@gmail.com")
+@AutoConfigureMockMvc
+class TokenAdminControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    @Autowired
+    private SigningKeyRing signingKeyRing;
+
+    @DisplayName("rotate(): jwt.admins 에 있는 사용자는 서명 키를 교체할 수 있다.")
+    @Test
+    void rotate_admin() throws Exception {
+        // given
+        final String url = "/api/admin/keys/rotate";
+        String accessToken = tokenProvider.generateToken(1L, "admin@gmail.com", Duration.ofHours(1));
+        RotateKeyRequest request = new RotateKeyRequest();
+        request.setKid("admin-rotated");
+
+        // when
+        mockMvc.perform(post(url)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isNoContent());
+
+        // then
+        assertThat(signingKeyRing.activeKey().kid()).isEqualTo("admin-rotated");
+        String newToken = tokenProvider.generateToken(1L, "admin@gmail.com", Duration.ofHours(1));
+        assertThat(tokenProvider.validToken(accessToken)).isTrue();
+        assertThat(tokenProvider.validToken(newToken)).isTrue();
+    }
+
+    @DisplayName("rotate(): 일반 사용자는 403, 토큰이 없으면 401")
+    @Test
+    void rotate_notAdmin() throws Exception {
+        // given
+        final String url = "/api/admin/keys/rotate";
+        String accessToken = tokenProvider.generateToken(2L, "user@gmail.com", Duration.ofHours(1));
+        RotateKeyRequest request = new RotateKeyRequest();
+        request.setKid("user-rotated");
+        String body = objectMapper.writeValueAsString(request);
+
+        // when, then
+        mockMvc.perform(post(url)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post(url)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isUnauthorized());
+        assertThat(signingKeyRing.activeKey().kid()).isNotEqualTo("user-rotated");
+    }
+}
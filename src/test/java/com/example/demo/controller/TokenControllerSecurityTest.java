@@ -0,0 +1,84 @@
+package com.example.demo.controller;
+
+import com.example.demo.config.jwt.TokenProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 스프링 시큐리티 필터 체인을 포함한 MockMvc (@AutoConfigureMockMvc 기본값)
+ * - 인가 규칙, 오류 응답 확인
+ */
+@SpringBootTest(properties = "jwt.admins=admin@gmail.com")
+@AutoConfigureMockMvc
+class TokenControllerSecurityTest {
+    private static final String INTROSPECT_URL = "/api/token/introspect";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    @DisplayName("introspect(): ROLE_ADMIN 사용자는 토큰 검사 결과를 받는다.")
+    @Test
+    void introspect_admin() throws Exception {
+        // given
+        String userToken = tokenProvider.generateToken(2L, "user@gmail.com", Duration.ofHours(1));
+
+        // when, then
+        mockMvc.perform(post(INTROSPECT_URL)
+                        .header(HttpHeaders.AUTHORIZATION, bearer("admin@gmail.com"))
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content("[\"" + userToken + "\"]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("active"))
+                .andExpect(jsonPath("$[0].sub").value("user@gmail.com"));
+    }
+
+    @DisplayName("introspect(): 문법 오류, 잘린 JSON 본문은 500 이 아니라 400")
+    @ParameterizedTest(name = "body={0}")
+    @ValueSource(strings = {"[\"a\", }", "[\"a\", \"b\"", "[\"a", "not-json"})
+    void introspect_malformedBody(String body) throws Exception {
+        mockMvc.perform(post(INTROSPECT_URL)
+                        .header(HttpHeaders.AUTHORIZATION, bearer("admin@gmail.com"))
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(body))
+                .andExpect(status().isBadRequest());
+    }
+
+    @DisplayName("introspect(): 일반 사용자는 403, 토큰이 없으면 401")
+    @Test
+    void introspect_notAdmin() throws Exception {
+        // given
+        String body = "[\"" + tokenProvider.generateToken(1L, "admin@gmail.com", Duration.ofHours(1)) + "\"]";
+
+        // when, then
+        mockMvc.perform(post(INTROSPECT_URL)
+                        .header(HttpHeaders.AUTHORIZATION, bearer("user@gmail.com"))
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(body))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post(INTROSPECT_URL)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(body))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private String bearer(String email) {
+        return "Bearer " + tokenProvider.generateToken(1L, email, Duration.ofHours(1));
+    }
+}
@@ -20,6 +20,10 @@ import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
 import java.util.Map;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -70,7 +74,8 @@ class TokenControllerTest {
                 .build()
                 .createToken(jwtProperties);
 
-        refreshTokenRepository.save(new RefreshTokenDAO(testUser.getId(), refreshToken));
+        refreshTokenRepository.save(new RefreshTokenDAO(testUser.getId(), refreshToken,
+                Instant.now().plus(Duration.ofDays(14))));
 
         CreateAccessTokenRequest request = new CreateAccessTokenRequest();
         request.setRefreshToken(refreshToken);
@@ -86,4 +91,53 @@ class TokenControllerTest {
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.accessToken").isNotEmpty());
     }
-}
\ No newline at end of file
+
+    @DisplayName("introspect(): 토큰 배열을 같은 순서의 검사 결과(active, expired, invalid)로 응답")
+    @Test
+    void introspect() throws Exception {
+        // given
+        final String url = "/api/token/introspect";
+
+        String activeToken = JwtFactory.builder()
+                .subject("user@gmail.com")
+                .claims(Map.of("id", 1L))
+                .build()
+                .createToken(jwtProperties);
+        String expiredToken = JwtFactory.builder()
+                .expiration(new Date(new Date().getTime() - Duration.ofDays(7).toMillis()))
+                .build()
+                .createToken(jwtProperties);
+
+        final String requestBody = objectMapper.writeValueAsString(List.of(activeToken, expiredToken, "invalid"));
+
+        // when
+        ResultActions resultActions = mockMvc.perform(post(url)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(requestBody));
+
+        // then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].status").value("active"))
+                .andExpect(jsonPath("$[0].sub").value("user@gmail.com"))
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[1].status").value("expired"))
+                .andExpect(jsonPath("$[2].status").value("invalid"));
+    }
+
+    @DisplayName("introspect(): 요청 본문이 JSON 배열이 아니면 400")
+    @Test
+    void introspect_notArray() throws Exception {
+        // given
+        final String url = "/api/token/introspect";
+
+        // when
+        ResultActions resultActions = mockMvc.perform(post(url)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content("{\"token\":\"invalid\"}"));
+
+        // then
+        resultActions.andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.demo.controller;
+
+import com.example.demo.config.jwt.TokenProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+
+/**
+ * 스프링 시큐리티 필터 체인을 포함한 MockMvc (@AutoConfigureMockMvc 기본값)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class UserControllerSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    @DisplayName("logout(): 인증 정보에 토큰 원문이 없어도 Authorization 헤더의 토큰을 폐기한다.")
+    @Test
+    void logout_revokesToken() throws Exception {
+        // given
+        String accessToken = tokenProvider.generateToken(1L, "logout@gmail.com", Duration.ofHours(1));
+        Authentication authentication = tokenProvider.authenticate(accessToken).orElseThrow();
+
+        // when
+        mockMvc.perform(post("/logout")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(redirectedUrl("/login"));
+
+        // then
+        assertThat(authentication.getCredentials()).isNull();
+        assertThat(tokenProvider.authenticate(accessToken)).isEmpty();
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.demo.repository;
+
+import com.example.demo.config.jwt.JwtProperties;
+import com.example.demo.config.jwt.SigningKeyRing;
+import com.example.demo.config.jwt.TokenAuthenticationCache;
+import com.example.demo.config.jwt.TokenProvider;
+import com.example.demo.config.jwt.TokenRevocationList;
+import com.example.demo.dao.RefreshTokenDAO;
+import com.example.demo.dao.UserDAO;
+import com.example.demo.dto.TokenUserDTO;
+import com.example.demo.util.HashUtil;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class RefreshTokenRepositoryTest {
+    private static final Instant EXPIRES_AT = Instant.now().plus(Duration.ofDays(14));
+    // 실제 토큰 길이 (kid 헤더 + jti + ES256 서명)
+    private static TokenProvider tokenProvider;
+
+    @Autowired
+    RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @BeforeAll
+    static void setUpTokenProvider() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setIssuer("2e40camn@gmail.com");
+        jwtProperties.setSecretKey("study-springboot");
+        jwtProperties.setAlgorithm(SignatureAlgorithm.ES256);
+        jwtProperties.getEc().setGenerateEphemeral(true);
+        tokenProvider = new TokenProvider(jwtProperties, new SigningKeyRing(jwtProperties),
+                new TokenAuthenticationCache(jwtProperties),
+                new TokenRevocationList(jwtProperties), new SimpleMeterRegistry());
+    }
+
+    private static String refreshToken(Long userId) {
+        return tokenProvider.generateToken(userId, "user" + userId + "@gmail.com", Duration.ofDays(14));
+    }
+
+    @DisplayName("findByRefreshToken(): 토큰 해시로 리프레시 토큰을 조회할 수 있다.")
+    @Test
+    void findByRefreshToken() {
+        // given
+        String refreshToken = refreshToken(1L);
+        refreshTokenRepository.saveAndFlush(new RefreshTokenDAO(1L, refreshToken, EXPIRES_AT));
+
+        // when
+        Optional<RefreshTokenDAO> found = refreshTokenRepository.findByRefreshToken(refreshToken);
+
+        // then
+        assertThat(found).isPresent();
+        assertThat(found.get().getUserId()).isEqualTo(1L);
+        assertThat(found.get().getRefreshToken()).isEqualTo(refreshToken);
+        assertThat(found.get().getTokenHash()).hasSize(64).isEqualTo(HashUtil.sha256Hex(refreshToken));
+    }
+
+    @DisplayName("findByRefreshToken(): 토큰을 교체하면 이전 토큰으로는 조회되지 않는다.")
+    @Test
+    void findByRefreshToken_updatedToken() {
+        // given
+        String oldRefreshToken = refreshToken(1L);
+        String newRefreshToken = refreshToken(1L);
+        RefreshTokenDAO saved = refreshTokenRepository.save(new RefreshTokenDAO(1L, oldRefreshToken, EXPIRES_AT));
+        refreshTokenRepository.saveAndFlush(saved.update(newRefreshToken, EXPIRES_AT));
+
+        // when
+        Optional<RefreshTokenDAO> oldToken = refreshTokenRepository.findByRefreshToken(oldRefreshToken);
+        Optional<RefreshTokenDAO> newToken = refreshTokenRepository.findByRefreshToken(newRefreshToken);
+
+        // then
+        assertThat(oldToken).isEmpty();
+        assertThat(newToken).isPresent();
+    }
+
+    @DisplayName("findTokenUserByRefreshToken(): 리프레시 토큰으로 사용자 id, email 을 한 번에 조회할 수 있다.")
+    @Test
+    void findTokenUserByRefreshToken() {
+        // given
+        UserDAO user = userRepository.save(UserDAO.builder()
+                .email("user@gmail.com")
+                .password("test")
+                .build());
+        String refreshToken = refreshToken(user.getId());
+        refreshTokenRepository.saveAndFlush(new RefreshTokenDAO(user.getId(), refreshToken, EXPIRES_AT));
+
+        // when
+        Optional<TokenUserDTO> tokenUser = refreshTokenRepository.findTokenUserByRefreshToken(refreshToken);
+
+        // then
+        assertThat(tokenUser).isPresent();
+        assertThat(tokenUser.get().getId()).isEqualTo(user.getId());
+        assertThat(tokenUser.get().getEmail()).isEqualTo("user@gmail.com");
+    }
+
+    @DisplayName("saveRefreshToken(): 같은 사용자의 토큰을 다시 저장하면 한 행만 남고 새 토큰으로 교체된다.")
+    @Test
+    void saveRefreshToken() {
+        // given
+        String oldRefreshToken = refreshToken(1L);
+        String newRefreshToken = refreshToken(1L);
+        refreshTokenRepository.saveRefreshToken(1L, oldRefreshToken, EXPIRES_AT);
+
+        // when
+        refreshTokenRepository.saveRefreshToken(1L, newRefreshToken, EXPIRES_AT);
+
+        // then
+        assertThat(newRefreshToken).hasSizeGreaterThan(255);
+        assertThat(refreshTokenRepository.count()).isEqualTo(1L);
+        assertThat(refreshTokenRepository.findByRefreshToken(oldRefreshToken)).isEmpty();
+        assertThat(refreshTokenRepository.findByRefreshToken(newRefreshToken))
+                .hasValueSatisfying(token -> {
+                    assertThat(token.getUserId()).isEqualTo(1L);
+                    assertThat(token.getRefreshToken()).isEqualTo(newRefreshToken);
+                });
+    }
+
+    @DisplayName("saveRefreshToken(): 같은 사용자의 동시 저장도 제약 조건 위반 없이 한 행만 남는다.")
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 스레드마다 커밋된 결과를 확인
+    void saveRefreshToken_concurrent() throws Exception {
+        try {
+            // given
+            int requests = 16;
+            List<String> refreshTokens = new ArrayList<>();
+            for(int i = 0; i < requests; i++) {
+                refreshTokens.add(refreshToken(1L));
+            }
+
+            // when
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(requests);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for(String refreshToken : refreshTokens) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        refreshTokenRepository.saveRefreshToken(1L, refreshToken, EXPIRES_AT);
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for(Future<?> future : futures) {
+                    future.get(10, TimeUnit.SECONDS); // 제약 조건 위반이면 ExecutionException
+                }
+            } finally {
+                executor.shutdown();
+            }
+
+            // then
+            assertThat(refreshTokenRepository.count()).isEqualTo(1L);
+            RefreshTokenDAO saved = refreshTokenRepository.findByUserId(1L).orElseThrow();
+            assertThat(refreshTokens).contains(saved.getRefreshToken());
+            assertThat(saved.getTokenHash()).isEqualTo(HashUtil.sha256Hex(saved.getRefreshToken()));
+        } finally {
+            refreshTokenRepository.deleteAll();
+        }
+    }
+
+    @DisplayName("replaceRefreshToken(): 교체한 토큰이 잘리지 않고 그대로 저장된다.")
+    @Test
+    void replaceRefreshToken() {
+        // given
+        String oldRefreshToken = refreshToken(1L);
+        String newRefreshToken = refreshToken(1L);
+        refreshTokenRepository.saveRefreshToken(1L, oldRefreshToken, EXPIRES_AT);
+
+        // when
+        boolean replaced = refreshTokenRepository.replaceRefreshToken(oldRefreshToken, newRefreshToken, EXPIRES_AT);
+
+        // then
+        assertThat(replaced).isTrue();
+        assertThat(refreshTokenRepository.findByRefreshToken(newRefreshToken))
+                .hasValueSatisfying(token -> assertThat(token.getRefreshToken()).isEqualTo(newRefreshToken));
+    }
+
+    @DisplayName("findExpiredIds(): 만료 일시가 지난 토큰만 오래된 순서로 size 개까지 조회하고 삭제할 수 있다.")
+    @Test
+    void findExpiredIds() {
+        // given
+        Instant now = Instant.now();
+        String validRefreshToken = refreshToken(3L);
+        RefreshTokenDAO oldest = refreshTokenRepository.save(
+                new RefreshTokenDAO(1L, refreshToken(1L), now.minus(Duration.ofDays(2))));
+        RefreshTokenDAO expired = refreshTokenRepository.save(
+                new RefreshTokenDAO(2L, refreshToken(2L), now.minus(Duration.ofDays(1))));
+        refreshTokenRepository.save(new RefreshTokenDAO(3L, validRefreshToken, EXPIRES_AT));
+
+        // when
+        List<Long> firstChunk = refreshTokenRepository.findExpiredIds(now, PageRequest.of(0, 1));
+        int deleted = refreshTokenRepository.deleteByIds(
+                refreshTokenRepository.findExpiredIds(now, PageRequest.of(0, 10)));
+
+        // then
+        assertThat(firstChunk).containsExactly(oldest.getId());
+        assertThat(deleted).isEqualTo(2);
+        assertThat(refreshTokenRepository.findById(expired.getId())).isEmpty();
+        assertThat(refreshTokenRepository.findByRefreshToken(validRefreshToken)).isPresent();
+    }
+}
@@ -1,12 +1,113 @@
 package com.example.demo.repository;
 
+import com.example.demo.dao.UserDAO;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
-import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 class UserRepositoryTest {
 
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
     @Test
     void findByUsername() {
     }
-}
\ No newline at end of file
+
+    @DisplayName("upsertOAuthUser(): 없는 사용자는 추가하고, 닉네임이 같으면 수정하지 않는다.")
+    @Test
+    void upsertOAuthUser() {
+        // when
+        int inserted = userRepository.upsertOAuthUser("user@gmail.com", "유저");
+        int unchanged = userRepository.upsertOAuthUser("user@gmail.com", "유저");
+        int updated = userRepository.upsertOAuthUser("user@gmail.com", "새유저");
+
+        // then
+        assertThat(inserted).isEqualTo(1);
+        assertThat(unchanged).isZero();
+        assertThat(updated).isEqualTo(1);
+        assertThat(userRepository.findIdByEmail("user@gmail.com")).isPresent();
+        assertThat(userRepository.findByEmail("user@gmail.com"))
+                .hasValueSatisfying(user -> assertThat(user.getNickname()).isEqualTo("새유저"));
+    }
+
+    @DisplayName("saveOAuthUser(): 같은 사용자의 동시 로그인도 제약 조건 위반 없이 한 행만 남는다.")
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 스레드마다 커밋된 결과를 확인
+    void saveOAuthUser_concurrent() throws Exception {
+        try {
+            // when
+            int requests = 16;
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(requests);
+            try {
+                List<Future<Integer>> futures = new ArrayList<>();
+                for(int i = 0; i < requests; i++) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        return userRepository.saveOAuthUser("concurrent@gmail.com", "동시유저");
+                    }));
+                }
+                start.countDown();
+                for(Future<Integer> future : futures) {
+                    future.get(10, TimeUnit.SECONDS); // 제약 조건 위반이면 ExecutionException
+                }
+            } finally {
+                executor.shutdown();
+            }
+
+            // then
+            assertThat(userRepository.count()).isEqualTo(1L);
+            assertThat(userRepository.findByEmail("concurrent@gmail.com"))
+                    .hasValueSatisfying(user -> assertThat(user.getNickname()).isEqualTo("동시유저"));
+        } finally {
+            userRepository.deleteAll();
+        }
+    }
+
+    @DisplayName("saveAll(): 한 트랜잭션의 여러 INSERT 는 JDBC 배치로 묶여서 전송된다.")
+    @Test
+    void saveAll_batchedInserts() {
+        // given
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        List<UserDAO> users = IntStream.range(0, 20)
+                .mapToObj(i -> UserDAO.builder()
+                        .email("user" + i + "@gmail.com")
+                        .password("test")
+                        .nickname("user" + i)
+                        .build())
+                .toList();
+        statistics.clear();
+
+        // when
+        userRepository.saveAll(users);
+        entityManager.flush();
+
+        // then : INSERT 20건, PreparedStatement 는 배치 1개 + 시퀀스 조회
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(users.size());
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(users.size());
+    }
+}
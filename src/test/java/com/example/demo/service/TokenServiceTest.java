@@ -0,0 +1,148 @@
+package com.example.demo.service;
+
+import com.example.demo.config.jwt.JwtProperties;
+import com.example.demo.config.jwt.TokenProvider;
+import com.example.demo.dao.UserDAO;
+import com.example.demo.dto.CreateAccessTokenResponse;
+import com.example.demo.dto.TokenUserDTO;
+import com.example.demo.repository.RefreshTokenRepository;
+import com.example.demo.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "jwt.refresh.rotate=true")
+class TokenServiceTest {
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JwtProperties jwtProperties;
+
+    @DisplayName("exchange(): 같은 리프레시 토큰의 동시 요청은 한 번만 교체하고 같은 토큰 쌍을 받는다.")
+    @Test
+    void exchange_concurrentRequestsShareOneRotation() throws Exception {
+        // given
+        UserDAO user = userRepository.save(UserDAO.builder()
+                .email("single-flight@gmail.com")
+                .password("test")
+                .build());
+        String refreshToken = tokenProvider.generateToken(user.getId(), user.getEmail(), Duration.ofDays(14));
+        refreshTokenRepository.saveRefreshToken(user.getId(), refreshToken, Instant.now().plus(Duration.ofDays(14)));
+        double successes = meterRegistry.timer("auth.token.refresh", "outcome", "success").count();
+
+        // when
+        int requests = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        List<CreateAccessTokenResponse> responses = new ArrayList<>();
+        try {
+            List<Future<CreateAccessTokenResponse>> futures = new ArrayList<>();
+            for(int i = 0; i < requests; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return tokenService.exchange(refreshToken);
+                }));
+            }
+            start.countDown();
+            for(Future<CreateAccessTokenResponse> future : futures) {
+                responses.add(future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        assertThat(responses).extracting(CreateAccessTokenResponse::getAccessToken)
+                .containsOnly(responses.get(0).getAccessToken());
+        assertThat(responses).extracting(CreateAccessTokenResponse::getRefreshToken)
+                .containsOnly(responses.get(0).getRefreshToken());
+        assertThat(meterRegistry.timer("auth.token.refresh", "outcome", "success").count() - successes).isEqualTo(1.0);
+
+        String newRefreshToken = responses.get(0).getRefreshToken();
+        assertThat(newRefreshToken).isNotEqualTo(refreshToken);
+        assertThat(refreshTokenRepository.findByRefreshToken(newRefreshToken)).isPresent();
+        assertThat(refreshTokenRepository.findByRefreshToken(refreshToken)).isEmpty();
+        assertThat(tokenService.exchange(newRefreshToken).getAccessToken()).isNotBlank();
+    }
+
+    @DisplayName("exchange(): 먼저 온 요청이 Error 로 실패해도 기다리던 요청은 멈추지 않고 같은 예외를 받는다.")
+    @Test
+    void exchange_leaderErrorReleasesWaiters() throws Exception {
+        // given
+        Error failure = new Error("leader failed");
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        RefreshTokenService failingService = new RefreshTokenService(refreshTokenRepository) {
+            @Override
+            public TokenUserDTO findTokenUser(String refreshToken) {
+                calls.incrementAndGet();
+                entered.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw failure;
+            }
+        };
+        TokenService service = new TokenService(tokenProvider, failingService, jwtProperties, new SimpleMeterRegistry());
+        String refreshToken = tokenProvider.generateToken(1L, "leader-error@gmail.com", Duration.ofDays(14));
+
+        // when
+        int waiters = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(waiters + 1);
+        List<Future<CreateAccessTokenResponse>> futures = new ArrayList<>();
+        try {
+            futures.add(executor.submit(() -> service.exchange(refreshToken)));
+            entered.await();
+            for(int i = 0; i < waiters; i++) {
+                futures.add(executor.submit(() -> service.exchange(refreshToken)));
+            }
+            Thread.sleep(200); // 기다리는 요청이 모두 처리 중인 교환에 합류할 때까지
+            release.countDown();
+
+            // then
+            for(Future<CreateAccessTokenResponse> future : futures) {
+                assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                        .isInstanceOf(ExecutionException.class)
+                        .cause().isSameAs(failure);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(calls.get()).isEqualTo(1);
+    }
+}
@@ -1,12 +1,62 @@
 package com.example.demo.service;
 
+import com.example.demo.config.cache.UserCache;
+import com.example.demo.config.password.PasswordHasher;
+import com.example.demo.dao.UserDAO;
+import com.example.demo.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
-import static org.junit.jupiter.api.Assertions.*;
+import static org.assertj.core.api.Assertions.assertThat;
 
+@SpringBootTest
 class UserDetailServiceTest {
+    @Autowired
+    private AuthenticationManager authenticationManager;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserCache userCache;
+
+    @BeforeEach
+    void setUp() {
+        userCache.invalidateAll();
+        userRepository.deleteAll();
+    }
 
     @Test
     void loadUserByUsername() {
     }
-}
\ No newline at end of file
+
+    @DisplayName("updatePassword(): 로그인에 성공하면 strength 가 하한보다 낮은 해시를 다시 해시해서 저장한다.")
+    @Test
+    void updatePassword_rehashOnLogin() {
+        // given
+        String weakHash = new BCryptPasswordEncoder(4).encode("1234");
+        userRepository.save(UserDAO.builder()
+                .email("rehash@gmail.com")
+                .password(weakHash)
+                .build());
+
+        // when
+        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken("rehash@gmail.com", "1234"));
+
+        // then
+        String stored = userRepository.findByEmail("rehash@gmail.com").orElseThrow().getPassword();
+        assertThat(stored).isNotEqualTo(weakHash);
+        assertThat(passwordHasher.needsRehash(stored)).isFalse();
+        assertThat(passwordHasher.matches("1234", stored)).isTrue();
+        assertThat(userCache.findByEmail("rehash@gmail.com").orElseThrow().getPassword()).isEqualTo(stored);
+    }
+}
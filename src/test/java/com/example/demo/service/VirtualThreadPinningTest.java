@@ -0,0 +1,127 @@
+package com.example.demo.service;
+
+import com.example.demo.config.cache.UserCache;
+import com.example.demo.config.jwt.TokenProvider;
+import com.example.demo.dao.UserDAO;
+import com.example.demo.repository.RefreshTokenRepository;
+import com.example.demo.repository.UserRepository;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 재발급 경로(JPA 조회 + 서명), 사용자 캐시 로드를 가상 스레드에서 실행했을 때
+ * 애플리케이션 코드가 synchronized 로 캐리어 스레드를 고정하지 않는지 확인 (jdk.VirtualThreadPinned)
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@SpringBootTest
+class VirtualThreadPinningTest {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @DisplayName("createNewAccessToken(): 가상 스레드에서 실행해도 애플리케이션 코드가 캐리어 스레드를 고정하지 않는다.")
+    @Test
+    void createNewAccessToken_noPinning() throws Exception {
+        // given
+        UserDAO user = userRepository.save(UserDAO.builder()
+                .email("virtual@gmail.com")
+                .password("test")
+                .build());
+        String refreshToken = tokenProvider.generateToken(user.getId(), user.getEmail(), Duration.ofDays(14));
+        refreshTokenRepository.saveRefreshToken(user.getId(), refreshToken, Instant.now().plus(Duration.ofDays(14)));
+
+        Path dump = Files.createTempFile("pinning", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+
+            // when
+            ExecutorService executor = newVirtualThreadPerTaskExecutor();
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for(int i = 0; i < 200; i++) {
+                    futures.add(executor.submit(() -> {
+                        String accessToken = tokenService.createNewAccessToken(refreshToken);
+                        tokenProvider.authenticate(accessToken).orElseThrow();
+                        // 토큰 교환은 대부분 합쳐지므로 사용자 캐시 조회(DB 로드)는 직접 호출
+                        userCache.evict(user.getId(), user.getEmail());
+                        userCache.findById(user.getId()).orElseThrow();
+                        return userService.findByEmail(user.getEmail());
+                    }));
+                }
+                for(Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdown();
+            }
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        // then
+        List<String> pinnedInApplication = RecordingFile.readAllEvents(dump).stream()
+                .filter(event -> PINNED_EVENT.equals(event.getEventType().getName()))
+                .filter(VirtualThreadPinningTest::hasApplicationFrame)
+                .map(RecordedEvent::toString)
+                .toList();
+        Files.deleteIfExists(dump);
+        assertThat(pinnedInApplication).isEmpty();
+    }
+
+    private static boolean hasApplicationFrame(RecordedEvent event) {
+        if(event.getStackTrace() == null) {
+            return false;
+        }
+        for(RecordedFrame frame : event.getStackTrace().getFrames()) {
+            if(frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith("com.example.demo")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * JDK 17 로도 컴파일되도록 리플렉션으로 생성 (테스트는 JDK 21 이상에서만 실행)
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() throws ReflectiveOperationException {
+        return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    }
+}